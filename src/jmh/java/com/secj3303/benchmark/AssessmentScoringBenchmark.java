@@ -0,0 +1,87 @@
+package com.secj3303.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.secj3303.dao.AssessmentAnswerDao;
+import com.secj3303.dao.AssessmentDao;
+import com.secj3303.dao.AssessmentResultDao;
+import com.secj3303.dao.QuestionDao;
+import com.secj3303.dao.StudentDao;
+import com.secj3303.model.Assessment;
+import com.secj3303.model.AssessmentResult;
+import com.secj3303.model.Question;
+import com.secj3303.model.Student;
+import com.secj3303.service.AssessmentService;
+
+/**
+ * AssessmentService.calculateScore with no-op DAOs, so only the scoring
+ * (sum, normalisation, severity, building the result) is measured.
+ * 10 questions is the longest seeded assessment (PSS-10), 100 a long
+ * custom questionnaire and 1000 a stress case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssessmentScoringBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int questions;
+
+    private AssessmentService assessmentService;
+    private Assessment assessment;
+    private Map<Integer, Integer> answers;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        assessmentService = new AssessmentService(
+            NoOpDaos.of(AssessmentDao.class),
+            NoOpDaos.of(StudentDao.class),
+            NoOpDaos.of(QuestionDao.class),
+            NoOpDaos.of(AssessmentResultDao.class),
+            NoOpDaos.of(AssessmentAnswerDao.class));
+
+        assessment = new Assessment("Benchmark Assessment", "Scoring benchmark", "Depression", "5 min", "blue");
+        assessment.setId(1);
+
+        Random random = new Random(42);
+        List<Question> items = new ArrayList<>(questions);
+        answers = new HashMap<>();
+        for (int i = 1; i <= questions; i++) {
+            Question question = new Question("Question " + i, "scale", 3, assessment);
+            question.setId(i);
+            items.add(question);
+            answers.put(i, random.nextInt(4));
+        }
+        assessment.setQuestions(items);
+
+        student = new Student("John Smith", "student1@demo.com", "STU20001", "Computer Science",
+                              "Year 3", "B+", 90, "2025-01-01");
+        student.setId(1);
+    }
+
+    @Benchmark
+    public AssessmentResult calculateScore() {
+        return assessmentService.calculateScore(assessment, answers, student);
+    }
+}
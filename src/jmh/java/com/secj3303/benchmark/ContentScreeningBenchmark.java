@@ -0,0 +1,107 @@
+package com.secj3303.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.secj3303.model.PeerSupportModels;
+import com.secj3303.model.PeerSupportModels.ContentCheckResult;
+
+/**
+ * PeerSupportModels.checkContentForHarmfulText (one pass of the compiled
+ * keyword matcher) against the String.contains version it replaced, kept
+ * below as the baseline. Clean text is the common case and the worst one
+ * for contains, which then scans the text once per keyword.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentScreeningBenchmark {
+
+    private static final String POST =
+        "Finals are coming up and I'm feeling overwhelmed. I have three exams in the same week and "
+        + "I keep putting off revision because every time I open my notes I feel my chest tighten. "
+        + "Has anyone found helpful strategies for managing exam stress? I've tried making a schedule "
+        + "but I never stick to it, and I don't want to let my family down. Any advice is welcome. ";
+
+    // post: a typical forum post; thread: a long post or a whole thread screened at once
+    @Param({"post", "thread"})
+    public String size;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = "post".equals(size) ? POST : POST.repeat(60);
+    }
+
+    @Benchmark
+    public ContentCheckResult compiledMatcher() {
+        return PeerSupportModels.checkContentForHarmfulText(text);
+    }
+
+    @Benchmark
+    public LegacyResult containsBaseline() {
+        return legacyCheck(text);
+    }
+
+    // ===============================
+    // BASELINE: the String.contains version, as it was before the compiled matcher
+    // ===============================
+    public static class LegacyResult {
+        public final boolean isClean;
+        public final String warning;
+
+        LegacyResult(boolean isClean, String warning) {
+            this.isClean = isClean;
+            this.warning = warning;
+        }
+    }
+
+    static LegacyResult legacyCheck(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return new LegacyResult(true, "");
+        }
+
+        final String lowerText = text.toLowerCase();
+
+        final Map<String, List<String>> harmfulKeywords = Map.of(
+            "selfHarm", Arrays.asList("kill myself", "end my life", "suicide", "self harm", "cut myself", "hurt myself"),
+            "violence", Arrays.asList("kill you", "hurt you", "attack", "violence", "weapon"),
+            "spam", Arrays.asList("click here", "buy now", "limited time", "earn money", "make $", "buy this", "!!!"),
+            "harassment", Arrays.asList("you suck", "idiot", "stupid", "loser", "hate you"),
+            "inappropriate", Arrays.asList("drugs", "alcohol abuse", "explicit")
+        );
+
+        if (harmfulKeywords.get("selfHarm").stream().anyMatch(lowerText::contains)) {
+            return new LegacyResult(false, "self-harm");
+        }
+        if (harmfulKeywords.get("violence").stream().anyMatch(lowerText::contains)) {
+            return new LegacyResult(false, "violence");
+        }
+        long spamCount = harmfulKeywords.get("spam").stream().filter(lowerText::contains).count();
+        if (spamCount >= 3 || (lowerText.contains("!!!") && spamCount >= 2)) {
+            return new LegacyResult(false, "spam");
+        }
+        if (harmfulKeywords.get("harassment").stream().anyMatch(lowerText::contains)) {
+            return new LegacyResult(false, "harassment");
+        }
+        return new LegacyResult(true, "");
+    }
+}
@@ -0,0 +1,76 @@
+package com.secj3303.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.secj3303.dao.GamificationDao;
+import com.secj3303.model.Gamification.LeaderboardEntry;
+import com.secj3303.service.GamificationService;
+import com.secj3303.service.XpLeaderboard;
+
+/**
+ * GamificationService.getFunctionalLeaderboard with the in-memory XP
+ * ranking filled with 200 (one cohort) or 100000 (every student ever)
+ * users. Viewed once by a user in the top 10 and once by a user ranked
+ * somewhere in the middle, who gets the extra "your rank" row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    private static final String TOP_USER = "top@demo.com";
+    private static final String MIDDLE_USER = "middle@demo.com";
+
+    @Param({"200", "100000"})
+    public int users;
+
+    private GamificationService gamificationService;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        GamificationDao gamificationDao = NoOpDaos.of(GamificationDao.class);
+
+        // Filled through update(), as GamificationService does after each commit
+        XpLeaderboard xpLeaderboard = new XpLeaderboard();
+        Field dao = XpLeaderboard.class.getDeclaredField("gamificationDao");
+        dao.setAccessible(true);
+        dao.set(xpLeaderboard, gamificationDao);
+
+        Random random = new Random(42);
+        for (int i = 0; i < users; i++) {
+            xpLeaderboard.update("student" + i + "@demo.com", random.nextInt(5000), xpLeaderboard.nextVersion());
+        }
+        xpLeaderboard.update(TOP_USER, 10000, xpLeaderboard.nextVersion());
+        xpLeaderboard.update(MIDDLE_USER, 2500, xpLeaderboard.nextVersion());
+
+        gamificationService = new GamificationService(gamificationDao, xpLeaderboard);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> viewedByTopUser() {
+        return gamificationService.getFunctionalLeaderboard(TOP_USER);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> viewedByRankedUser() {
+        return gamificationService.getFunctionalLeaderboard(MIDDLE_USER);
+    }
+}
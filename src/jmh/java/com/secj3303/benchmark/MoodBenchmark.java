@@ -0,0 +1,65 @@
+package com.secj3303.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.secj3303.model.MoodEntry;
+
+/**
+ * MoodEntry.getMoodStats and calculateStreak over one user's history.
+ * 30 entries is a typical month, 365 a year of daily check-ins and 5000
+ * a long-time user with several entries a day. The history is a streak
+ * of consecutive days ending today, newest first, as the DAO returns it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoodBenchmark {
+
+    private static final String[] MOODS = {"happy", "sad", "stressed", "neutral", "excited", "anxious"};
+
+    @Param({"30", "365", "5000"})
+    public int entries;
+
+    private List<MoodEntry> history;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+
+        history = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            history.add(new MoodEntry(today.minusDays(i), MOODS[random.nextInt(MOODS.length)], "note " + i, "student1@demo.com"));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> moodStats() {
+        return MoodEntry.getMoodStats(history);
+    }
+
+    @Benchmark
+    public int streak() {
+        return MoodEntry.calculateStreak(history);
+    }
+}
@@ -0,0 +1,43 @@
+package com.secj3303.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DAO implementations that do nothing, so service benchmarks measure the
+ * service logic and not a database. Every method returns the empty value
+ * of its return type.
+ */
+final class NoOpDaos {
+
+    private NoOpDaos() {}
+
+    static <T> T of(Class<T> daoType) {
+        Object dao = Proxy.newProxyInstance(daoType.getClassLoader(), new Class<?>[] { daoType },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals": return proxy == args[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    case "toString": return "NoOp" + daoType.getSimpleName();
+                    default: return emptyValueOf(method.getReturnType());
+                }
+            });
+        return daoType.cast(dao);
+    }
+
+    private static Object emptyValueOf(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == Optional.class) return Optional.empty();
+        if (type == List.class) return Collections.emptyList();
+        if (type == Set.class) return Collections.emptySet();
+        if (type == Map.class) return Collections.emptyMap();
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.secj3303.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.secj3303.model.CounsellingSession;
+import com.secj3303.model.CounsellingSession.SessionStatus;
+import com.secj3303.model.Counsellor;
+import com.secj3303.model.TimeSlot;
+
+/**
+ * TimeSlot.generateAvailableSlots for one counsellor, with the sessions of
+ * all counsellors passed in as the booking page does. 50 sessions is a
+ * quiet term; 20000 is several years of history that was never archived.
+ * Slots are generated for the default two weeks and for a whole year.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotBenchmark {
+
+    private static final LocalTime[] SLOT_STARTS = {
+        LocalTime.of(9, 0), LocalTime.of(12, 0), LocalTime.of(14, 0), LocalTime.of(16, 0)
+    };
+
+    @Param({"50", "20000"})
+    public int sessions;
+
+    @Param({"14", "365"})
+    public int daysAhead;
+
+    private List<CounsellingSession> allSessions;
+    private String counsellorId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Counsellor> counsellors = List.of(
+            new Counsellor("Dr. Emily Chen", "counsellor1@demo.com", "Academic Counseling", "CSLR001"),
+            new Counsellor("Prof. Michael Wong", "counsellor2@demo.com", "Mental Health", "CSLR002"),
+            new Counsellor("Dr. Aisha Rahman", "counsellor3@demo.com", "Wellbeing", "CSLR003"));
+        counsellorId = counsellors.get(0).getId();
+
+        // Past and upcoming sessions around today; some cancelled
+        LocalDate today = LocalDate.now();
+        allSessions = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            CounsellingSession session = new CounsellingSession();
+            session.setCounsellor(counsellors.get(random.nextInt(counsellors.size())));
+            session.setDate(today.plusDays(random.nextInt(daysAhead + 730) - 730));
+            session.setStartTime(SLOT_STARTS[random.nextInt(SLOT_STARTS.length)]);
+            session.setStatus(random.nextInt(10) == 0 ? SessionStatus.CANCELLED : SessionStatus.CONFIRMED);
+            allSessions.add(session);
+        }
+    }
+
+    @Benchmark
+    public List<TimeSlot> availableSlots() {
+        return TimeSlot.generateAvailableSlots(allSessions, counsellorId, daysAhead);
+    }
+}
@@ -0,0 +1,37 @@
+package com.secj3303.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+
+/**
+ * Counts live HTTP sessions. Registered as a listener in web.xml, so the
+ * container creates it rather than Spring; the counts are static and read
+ * by RequestMetrics.
+ */
+public class ActiveSessionCounter implements HttpSessionListener {
+
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final AtomicLong CREATED = new AtomicLong();
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        ACTIVE.incrementAndGet();
+        CREATED.incrementAndGet();
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        ACTIVE.updateAndGet(active -> Math.max(0, active - 1));
+    }
+
+    public static int getActiveSessions() {
+        return ACTIVE.get();
+    }
+
+    public static long getCreatedSessions() {
+        return CREATED.get();
+    }
+}
@@ -0,0 +1,63 @@
+package com.secj3303.config;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-time cleanup of duplicate assessment_answers rows, which older
+ * progress saves could leave behind. hbm2ddl cannot add
+ * uk_answer_student_assessment_question while duplicates exist, so the
+ * newest answer (highest id) per question is kept and the key is added
+ * here. Once the key exists this is a single metadata lookup.
+ */
+@Component
+public class AssessmentAnswerMigration {
+
+    private static final String UNIQUE_KEY = "uk_answer_student_assessment_question";
+
+    private final AtomicBoolean migrated = new AtomicBoolean(false);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void removeDuplicateAnswers() {
+        if (!migrated.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            Integer keys = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE table_schema = DATABASE() AND table_name = 'assessment_answers' AND index_name = ?",
+                Integer.class, UNIQUE_KEY);
+            if (keys != null && keys > 0) {
+                return;
+            }
+
+            int removed = jdbcTemplate.update(
+                "DELETE older FROM assessment_answers older " +
+                "JOIN assessment_answers newer " +
+                "ON newer.student_id = older.student_id " +
+                "AND newer.assessment_id = older.assessment_id " +
+                "AND newer.question_id = older.question_id " +
+                "AND newer.id > older.id");
+            jdbcTemplate.execute(
+                "ALTER TABLE assessment_answers ADD CONSTRAINT " + UNIQUE_KEY +
+                " UNIQUE (student_id, assessment_id, question_id)");
+            System.out.println("✅ Removed " + removed + " duplicate assessment answers and added " + UNIQUE_KEY);
+
+        } catch (Exception e) {
+            System.err.println("❌ ERROR removing duplicate assessment_answers: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.secj3303.config;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-time backfill of assessment_results.submitted_at from the legacy
+ * "MMM d, yyyy" date string. Only rows with a NULL submitted_at are touched,
+ * so once every row is migrated this is a single empty SELECT.
+ */
+@Component
+public class AssessmentResultMigration {
+
+    private static final DateTimeFormatter LEGACY_DATE =
+            DateTimeFormatter.ofPattern("MMM d, yyyy", Locale.ENGLISH);
+
+    // Unparseable dates sort after every real result
+    private static final LocalDateTime UNKNOWN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AtomicBoolean migrated = new AtomicBoolean(false);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfillSubmittedAt() {
+        if (!migrated.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, date FROM assessment_results WHERE submitted_at IS NULL");
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                LocalDateTime submittedAt = parseLegacyDate((String) row.get("date"));
+                updates.add(new Object[] { Timestamp.valueOf(submittedAt), row.get("id") });
+            }
+
+            jdbcTemplate.batchUpdate(
+                "UPDATE assessment_results SET submitted_at = ? WHERE id = ?", updates);
+            System.out.println("✅ Backfilled submitted_at for " + updates.size() + " assessment results");
+
+        } catch (Exception e) {
+            System.err.println("❌ ERROR backfilling assessment_results.submitted_at: " + e.getMessage());
+        }
+    }
+
+    private LocalDateTime parseLegacyDate(String date) {
+        if (date == null) {
+            return UNKNOWN_DATE;
+        }
+        try {
+            return LocalDate.parse(date.trim(), LEGACY_DATE).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return UNKNOWN_DATE;
+        }
+    }
+}
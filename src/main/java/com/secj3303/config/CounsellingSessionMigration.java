@@ -0,0 +1,44 @@
+package com.secj3303.config;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-time backfill of COUNSELLING_SESSION.active_slot for sessions created
+ * before the column existed. UPDATE IGNORE leaves an existing double booking
+ * unmarked instead of failing on uk_session_active_slot; once every row is
+ * set this updates nothing.
+ */
+@Component
+public class CounsellingSessionMigration {
+
+    private final AtomicBoolean migrated = new AtomicBoolean(false);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfillActiveSlot() {
+        if (!migrated.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int updated = new JdbcTemplate(dataSource).update(
+                "UPDATE IGNORE COUNSELLING_SESSION SET active_slot = TRUE " +
+                "WHERE active_slot IS NULL AND status <> 'CANCELLED'");
+            if (updated > 0) {
+                System.out.println("✅ Backfilled active_slot for " + updated + " counselling sessions");
+            }
+        } catch (Exception e) {
+            System.err.println("❌ ERROR backfilling COUNSELLING_SESSION.active_slot: " + e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.secj3303.config;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.sql.DataSource;
 
@@ -17,6 +18,9 @@ import com.secj3303.service.ForumService;
 @Component
 public class DataInitializer implements ApplicationListener<ContextRefreshedEvent> {
 
+    // Child contexts publish ContextRefreshedEvent too; the checks below only need to run once
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean(false);
+
     @Autowired
     private ForumService forumService;
     
@@ -25,6 +29,9 @@ public class DataInitializer implements ApplicationListener<ContextRefreshedEven
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!INITIALIZED.compareAndSet(false, true)) {
+            return;
+        }
         try {
             System.out.println("=== Starting Database Initialization ===");
             
@@ -34,13 +41,14 @@ public class DataInitializer implements ApplicationListener<ContextRefreshedEven
             // Check if tables exist, create if not
             ensureTablesExist();
             
-            // Initialize dummy data if needed
-            if (forumService.getAllPosts().isEmpty()) {
-                System.out.println("No posts found. Initializing dummy data...");
-                forumService.initializeDummyData();
-                System.out.println("Dummy data initialized successfully!");
-            } else {
-                System.out.println("Found " + forumService.getAllPosts().size() + " existing posts.");
+            // Demo posts for an empty forum are loaded by ForumDataInitializer (SeedRunner)
+            long postCount = forumService.countPosts();
+            if (postCount > 0) {
+                System.out.println("Found " + postCount + " existing posts.");
+                // reply_count and category counts are denormalized; bring them in line at startup
+                forumService.reconcileReplyCounts();
+                forumService.reconcileCategoryCounts();
+                forumService.deleteOrphanReports();
             }
             
             System.out.println("=== Database Initialization Complete ===");
@@ -0,0 +1,123 @@
+package com.secj3303.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Collects connection pool metrics from HikariCP.
+ * Wired into the pool as its metricsTrackerFactory (see dispatcher-servlet.xml)
+ * and read by the admin dashboard.
+ */
+@Component("dataSourcePoolMetrics")
+public class DataSourcePoolMetrics implements MetricsTrackerFactory {
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanosTotal = new LongAdder();
+    private final AtomicLong acquireNanosMax = new AtomicLong();
+    private final LongAdder usageMillisTotal = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+
+    private volatile String poolName = "-";
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    // ===============================
+    // LIVE POOL STATE
+    // ===============================
+    public String getPoolName() { return poolName; }
+
+    public int getActiveConnections() { return poolStats != null ? poolStats.getActiveConnections() : 0; }
+
+    public int getIdleConnections() { return poolStats != null ? poolStats.getIdleConnections() : 0; }
+
+    public int getTotalConnections() { return poolStats != null ? poolStats.getTotalConnections() : 0; }
+
+    public int getMaxConnections() { return poolStats != null ? poolStats.getMaxConnections() : 0; }
+
+    public int getPendingThreads() { return poolStats != null ? poolStats.getPendingThreads() : 0; }
+
+    // ===============================
+    // CUMULATIVE COUNTERS
+    // ===============================
+    public long getAcquireCount() { return acquireCount.sum(); }
+
+    public long getTimeoutCount() { return timeoutCount.sum(); }
+
+    public long getCreatedCount() { return createdCount.sum(); }
+
+    public double getAverageAcquireMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0 : nanosToMillis(acquireNanosTotal.sum()) / count;
+    }
+
+    public double getMaxAcquireMillis() {
+        return nanosToMillis(acquireNanosMax.get());
+    }
+
+    public double getAverageUsageMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0 : (double) usageMillisTotal.sum() / count;
+    }
+
+    /**
+     * Label/value rows the admin view can render directly.
+     */
+    public List<Map<String, String>> getStats() {
+        List<Map<String, String>> stats = new ArrayList<>();
+        stats.add(Map.of("label", "Active Connections", "value", getActiveConnections() + " / " + getMaxConnections()));
+        stats.add(Map.of("label", "Idle Connections", "value", String.valueOf(getIdleConnections())));
+        stats.add(Map.of("label", "Waiting Threads", "value", String.valueOf(getPendingThreads())));
+        stats.add(Map.of("label", "Avg. Acquire Time", "value", String.format("%.2f ms", getAverageAcquireMillis())));
+        stats.add(Map.of("label", "Max Acquire Time", "value", String.format("%.2f ms", getMaxAcquireMillis())));
+        stats.add(Map.of("label", "Avg. Hold Time", "value", String.format("%.1f ms", getAverageUsageMillis())));
+        stats.add(Map.of("label", "Acquisitions", "value", String.valueOf(getAcquireCount())));
+        stats.add(Map.of("label", "Acquire Timeouts", "value", String.valueOf(getTimeoutCount())));
+        return stats;
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            createdCount.increment();
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireCount.increment();
+            acquireNanosTotal.add(elapsedAcquiredNanos);
+            acquireNanosMax.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageMillisTotal.add(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+        }
+    }
+}
@@ -1,137 +1,163 @@
 package com.secj3303.config;
 
-import org.springframework.context.event.ContextRefreshedEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import com.secj3303.dao.PersonDao;
-import com.secj3303.dao.StudentDao;
-import com.secj3303.dao.CounsellorDao;
 import com.secj3303.model.Person;
-import com.secj3303.model.Student;
 import com.secj3303.model.Counsellor;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
+/**
+ * Demo login accounts, plus the student and counsellor records that go
+ * with them. Accounts are matched by email; existing ones are not touched.
+ */
 @Component
-public class DemoDataInitializer {
+public class DemoDataInitializer implements SeedSet {
+
+    // email, name, role
+    private static final String[][] DEMO_USERS = {
+        {"student1@demo.com", "John Smith", "STUDENT"},
+        {"student2@demo.com", "Sarah Johnson", "STUDENT"},
+        {"faculty@demo.com", "Demo Faculty", "FACULTY"},
+        {"counsellor1@demo.com", "Dr. Emily Chen", "COUNSELLOR"},
+        {"counsellor2@demo.com", "Prof. Michael Wong", "COUNSELLOR"},
+        {"admin@demo.com", "System Admin", "ADMINISTRATOR"}
+    };
+
+    // email, department, year
+    private static final String[][] DEMO_STUDENTS = {
+        {"student1@demo.com", "Computer Science", "Year 3"},
+        {"student2@demo.com", "Psychology", "Year 2"}
+    };
+
+    // email, specialty
+    private static final String[][] DEMO_COUNSELLORS = {
+        {"counsellor1@demo.com", "Academic Counseling"},
+        {"counsellor2@demo.com", "Mental Health"}
+    };
+
+    private static final String DEMO_PASSWORD = "{noop}demo123";
 
-    private final PersonDao personDao;
-    private final StudentDao studentDao;
-    private final CounsellorDao counsellorDao;
     private final Random random = new Random();
 
-    public DemoDataInitializer(PersonDao personDao, StudentDao studentDao, CounsellorDao counsellorDao) {
-        this.personDao = personDao;
-        this.studentDao = studentDao;
-        this.counsellorDao = counsellorDao;
-    }
-    
-    @EventListener(ContextRefreshedEvent.class)
-    public void init() {
-
-        createPersonIfNotExists("student1@demo.com", "John Smith", "STUDENT");
-        createPersonIfNotExists("student2@demo.com", "Sarah Johnson", "STUDENT");
-        createPersonIfNotExists("faculty@demo.com", "Demo Faculty", "FACULTY");
-        createPersonIfNotExists("counsellor1@demo.com", "Dr. Emily Chen", "COUNSELLOR");
-        createPersonIfNotExists("counsellor2@demo.com", "Prof. Michael Wong", "COUNSELLOR");
-        createPersonIfNotExists("admin@demo.com", "System Admin", "ADMINISTRATOR");
-
-        createRoleSpecificRecords();
+    @Override
+    public String getName() {
+        return "demo-users";
     }
 
-    private void createPersonIfNotExists(String email, String name, String role) {
-        Person existing = personDao.findByEmail(email);
-        if (existing != null) {
-            return;
+    @Override
+    public void describe(SeedFingerprint fingerprint) {
+        fingerprint.add(DEMO_PASSWORD);
+        for (String[] user : DEMO_USERS) {
+            fingerprint.add((Object[]) user);
+        }
+        for (String[] student : DEMO_STUDENTS) {
+            fingerprint.add((Object[]) student);
         }
+        for (String[] counsellor : DEMO_COUNSELLORS) {
+            fingerprint.add((Object[]) counsellor);
+        }
+    }
 
-        Person person = new Person();
-        person.setEmail(email);
-        person.setName(name);
-        person.setRole(role);
-        person.setPassword("{noop}demo123"); 
-        person.setEnabled(true);
-        person.setMatrixId("A" + System.currentTimeMillis() % 1000000);
+    @Override
+    public void load(JdbcTemplate jdbcTemplate) {
+        insertPeople(jdbcTemplate);
+        insertStudents(jdbcTemplate);
+        insertCounsellors(jdbcTemplate);
+    }
 
-        person.setYob(2000);
-        person.setWeight(65.0);
-        person.setHeight(1.70);
+    private void insertPeople(JdbcTemplate jdbcTemplate) {
+        long matrixBase = System.currentTimeMillis() % 1000000;
+        List<Object[]> rows = new ArrayList<>();
 
-        personDao.insert(person);
-    }
-    
-    private void createRoleSpecificRecords() {
-        createStudentRecord("student1@demo.com", "Computer Science", "Year 3");
-        createStudentRecord("student2@demo.com", "Psychology", "Year 2");
-        
-        createCounsellorRecord("counsellor1@demo.com", "Academic Counseling");
-        createCounsellorRecord("counsellor2@demo.com", "Mental Health");
-    }
-    
-    private void createStudentRecord(String email, String department, String year) {
-        if (studentDao.findByEmail(email).isPresent()) {
-            return;
+        for (int i = 0; i < DEMO_USERS.length; i++) {
+            Person person = new Person();
+            person.setEmail(DEMO_USERS[i][0]);
+            person.setName(DEMO_USERS[i][1]);
+            person.setRole(DEMO_USERS[i][2]);
+            person.setPassword(DEMO_PASSWORD);
+            person.setEnabled(true);
+            person.setMatrixId("A" + (matrixBase + i) % 1000000);
+            person.setYob(2000);
+            person.setWeight(65.0);
+            person.setHeight(1.70);
+            // Age, BMI and category, as Hibernate would set them before an insert
+            person.prePersistAndUpdate();
+
+            rows.add(new Object[] {
+                person.getEmail(), person.getPassword(), person.getRole(), person.isEnabled(), person.getName(),
+                person.getYob(), person.getAge(), person.getWeight(), person.getHeight(), person.getBmi(),
+                person.getCategory(), person.getMatrixId(), person.getEmail()
+            });
         }
-        
-        Person person = personDao.findByEmail(email);
-        if (person == null || !"STUDENT".equals(person.getRole())) {
-            return;
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO person (email, password, role, enabled, name, yob, age, weight, height, bmi, category, matrixId) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM person WHERE email = ?)",
+            rows);
+    }
+
+    private void insertStudents(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String[] student : DEMO_STUDENTS) {
+            rows.add(new Object[] {
+                generateStudentId(), student[1], student[2], getRandomGrade(), 70 + random.nextInt(31), // 70-100%
+                getRandomDate(), "mild", student[0], student[0]
+            });
         }
 
-        Student student = new Student();
-        student.setName(person.getName());
-        student.setEmail(email);
-        student.setStudentId(generateStudentId());
-        student.setDepartment(department);
-        student.setYear(year);
-        student.setCurrentGrade(getRandomGrade());
-        student.setAttendance(70 + random.nextInt(31)); // 70-100%
-        student.setLastActivity(getRandomDate());
-        student.setRiskLevel("mild");
-        
-        student.calculateInitials();
-        
-        studentDao.save(student);
-        System.out.println("Student record created for: " + email);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO students (name, email, student_id, department, year, current_grade, attendance, last_activity, risk_level) " +
+            "SELECT p.name, p.email, ?, ?, ?, ?, ?, ?, ? FROM person p " +
+            "WHERE p.email = ? AND p.role = 'STUDENT' " +
+            "AND NOT EXISTS (SELECT 1 FROM students s WHERE s.email = ?)",
+            rows);
     }
-    
-    private void createCounsellorRecord(String email, String specialty) {
-        if (counsellorDao.existsByEmail(email)) {
-            return;
+
+    private void insertCounsellors(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String[] counsellor : DEMO_COUNSELLORS) {
+            String code = "CSLR" + String.format("%03d", random.nextInt(1000));
+            // The counsellor id is derived from the name, as in the Counsellor constructor
+            Counsellor record = new Counsellor(nameOf(counsellor[0]), counsellor[0], counsellor[1], code);
+            rows.add(new Object[] { record.getId(), record.getSpecialty(), record.getCode(), counsellor[0], counsellor[0] });
         }
-        
-        Person person = personDao.findByEmail(email);
-        if (person == null || !"COUNSELLOR".equals(person.getRole())) {
-            return;
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO COUNSELLOR (counsellor_id, name, email, specialty, code) " +
+            "SELECT ?, p.name, p.email, ?, ? FROM person p " +
+            "WHERE p.email = ? AND p.role = 'COUNSELLOR' " +
+            "AND NOT EXISTS (SELECT 1 FROM COUNSELLOR c WHERE c.email = ?)",
+            rows);
+    }
+
+    private String nameOf(String email) {
+        for (String[] user : DEMO_USERS) {
+            if (user[0].equals(email)) {
+                return user[1];
+            }
         }
-        
-        String code = "CSLR" + String.format("%03d", random.nextInt(1000));
-        Counsellor counsellor = new Counsellor(
-            person.getName(),
-            email,
-            specialty,
-            code
-        );
-        
-        counsellorDao.save(counsellor);
-        System.out.println("Counsellor record created for: " + email + " with ID: " + counsellor.getId());
+        throw new IllegalArgumentException("No demo user " + email);
     }
-    
+
     // Helper methods for generating demo data
     private String generateStudentId() {
         return "STU" + (20000 + random.nextInt(30000));
     }
-    
+
     private String getRandomGrade() {
         String[] grades = {"A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D+", "D", "F"};
         return grades[random.nextInt(grades.length)];
     }
-    
+
     private String getRandomDate() {
         LocalDate date = LocalDate.now().minusDays(random.nextInt(30));
         return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
     }
-}
\ No newline at end of file
+}
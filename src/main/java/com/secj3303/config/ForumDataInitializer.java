@@ -0,0 +1,96 @@
+package com.secj3303.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.secj3303.model.Category;
+import com.secj3303.model.Post;
+import com.secj3303.model.Reply;
+import com.secj3303.service.ForumService;
+
+/**
+ * Forum categories, plus the demo posts and replies for an empty forum.
+ * Posts are only added while forum_posts is empty, so a forum that is in
+ * use never gets the demo posts back.
+ */
+@Component
+public class ForumDataInitializer implements SeedSet {
+
+    @Autowired
+    private ForumService forumService;
+
+    @Override
+    public String getName() {
+        return "forum";
+    }
+
+    @Override
+    public void describe(SeedFingerprint fingerprint) {
+        for (Category category : ForumService.demoCategories()) {
+            fingerprint.add(category.getId(), category.getLabel());
+        }
+        for (Post post : ForumService.demoPosts()) {
+            fingerprint.add(post.getAuthor(), post.getAuthorInitials(), post.getTime(), post.getCategory(),
+                            post.getTitle(), post.getContent(), post.getLikes(), post.isTrending(), post.isHelpful());
+            for (Reply reply : post.getReplies()) {
+                fingerprint.add(reply.getAuthor(), reply.getAuthorInitials(), reply.getTime(),
+                                reply.getContent(), reply.getLikes());
+            }
+        }
+    }
+
+    @Override
+    public void load(JdbcTemplate jdbcTemplate) {
+        insertCategories(jdbcTemplate);
+
+        Integer posts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM forum_posts", Integer.class);
+        if (posts == null || posts == 0) {
+            insertPosts(jdbcTemplate);
+        }
+
+        // Denormalized counts, recomputed from the rows now in the tables
+        forumService.reconcileReplyCounts();
+        forumService.reconcileCategoryCounts();
+    }
+
+    private void insertCategories(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Category category : ForumService.demoCategories()) {
+            rows.add(new Object[] { category.getId(), category.getLabel(), 0 });
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO forum_categories (id, label, count) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertPosts(JdbcTemplate jdbcTemplate) {
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> replies = new ArrayList<>();
+
+        for (Post post : ForumService.demoPosts()) {
+            posts.add(new Object[] {
+                post.getAuthor(), post.getAuthorInitials(), post.getTime(), post.getCategory(), post.getTitle(),
+                post.getContent(), post.getLikes(), post.isTrending(), post.isHelpful()
+            });
+            for (Reply reply : post.getReplies()) {
+                replies.add(new Object[] {
+                    reply.getAuthor(), reply.getAuthorInitials(), reply.getTime(), reply.getContent(),
+                    reply.getLikes(), post.getTitle()
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO forum_posts (author, authorInitials, time, category, title, content, likes, trending, helpful, reply_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+            posts);
+
+        // Demo titles are unique, so each reply finds its post by title
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO forum_replies (author, authorInitials, time, content, likes, post_id) " +
+            "SELECT ?, ?, ?, ?, ?, p.id FROM forum_posts p WHERE p.title = ?",
+            replies);
+    }
+}
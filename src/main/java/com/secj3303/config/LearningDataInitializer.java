@@ -1,42 +1,111 @@
 package com.secj3303.config;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.secj3303.dao.LearningModuleDao;
 import com.secj3303.model.LearningModule;
 import com.secj3303.model.Lesson;
 import com.secj3303.model.QuizQuestion;
 
+/**
+ * Built-in learning modules with their lessons and quizzes. Modules are
+ * matched by title, lessons and quiz questions by title/question within
+ * their module, so content added here is inserted into an existing
+ * database without duplicating what is already there.
+ */
 @Component
-@Transactional
-public class LearningDataInitializer
-        implements ApplicationListener<ContextRefreshedEvent> {
+public class LearningDataInitializer implements SeedSet {
 
-    private boolean initialized = false;
-    private final LearningModuleDao moduleDao;
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
 
-    public LearningDataInitializer(LearningModuleDao moduleDao) {
-        this.moduleDao = moduleDao;
+    @Override
+    public String getName() {
+        return "learning";
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
-
-        // ✅ DAO-safe "count" check
-        if (initialized || !moduleDao.findAllWithLessonsAndQuiz().isEmpty()) {
-            // Optional: Update existing lessons with content if missing
-            updateExistingLessonsWithContent();
-            initialized = true;
-            return;
+    public void describe(SeedFingerprint fingerprint) {
+        for (LearningModule module : buildModules()) {
+            fingerprint.add(module.getTitle(), module.getDescription(), module.getDuration(),
+                            module.getCategory(), module.isLocked());
+            for (Lesson lesson : module.getLessons()) {
+                fingerprint.add(lesson.getTitle(), lesson.getDuration(), lesson.getType(),
+                                lesson.getUrl(), lesson.getContent());
+            }
+            for (QuizQuestion quiz : module.getQuizzes()) {
+                fingerprint.add(quiz.getQuestion(), quiz.getCorrectAnswer(), quiz.getOptions());
+            }
+        }
+    }
+
+    @Override
+    public void load(JdbcTemplate jdbcTemplate) {
+        List<LearningModule> modules = buildModules();
+
+        List<Object[]> moduleRows = new ArrayList<>();
+        List<Object[]> lessonRows = new ArrayList<>();
+        List<Object[]> quizRows = new ArrayList<>();
+        List<Object[]> optionRows = new ArrayList<>();
+        for (LearningModule module : modules) {
+            moduleRows.add(new Object[] {
+                module.getTitle(), module.getDescription(), module.getDuration(), module.getCategory(),
+                module.isLocked(), module.getTitle()
+            });
+            for (Lesson lesson : module.getLessons()) {
+                lessonRows.add(new Object[] {
+                    lesson.getTitle(), lesson.getContent(), lesson.getDuration(), lesson.getType(), lesson.getUrl(),
+                    module.getTitle(), lesson.getTitle()
+                });
+            }
+            for (QuizQuestion quiz : module.getQuizzes()) {
+                quizRows.add(new Object[] { quiz.getQuestion(), quiz.getCorrectAnswer(), module.getTitle(), quiz.getQuestion() });
+                for (int order = 0; order < quiz.getOptions().size(); order++) {
+                    optionRows.add(new Object[] { order, quiz.getOptions().get(order), module.getTitle(), quiz.getQuestion(), order });
+                }
+            }
         }
-        initialized = true;
+
+        // Children find their parent by title, so nothing has to wait for generated ids
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO learning_module (title, description, duration, category, locked) " +
+            "SELECT ?, ?, ?, ?, ? FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM learning_module WHERE title = ?)",
+            moduleRows);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO lesson (title, content, duration, type, url, module_id) " +
+            "SELECT ?, ?, ?, ?, ?, m.id FROM learning_module m WHERE m.title = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM lesson l WHERE l.module_id = m.id AND l.title = ?)",
+            lessonRows);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO QuizQuestion (question, correctAnswer, module_id) " +
+            "SELECT ?, ?, m.id FROM learning_module m WHERE m.title = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM QuizQuestion q WHERE q.module_id = m.id AND q.question = ?)",
+            quizRows);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO quizquestion_options (quizquestion_id, option_order, options) " +
+            "SELECT q.id, ?, ? FROM QuizQuestion q JOIN learning_module m ON q.module_id = m.id " +
+            "WHERE m.title = ? AND q.question = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM quizquestion_options o WHERE o.quizquestion_id = q.id AND o.option_order = ?)",
+            optionRows);
+
+        fillMissingLessonContent(jdbcTemplate);
+
+        // Modules, lessons and quizzes are served from the second-level cache
+        referenceDataCache.evictLearningContent();
+    }
+
+    // =================================================
+    // SEED CONTENT
+    // =================================================
+    private List<LearningModule> buildModules() {
+        List<LearningModule> modules = new ArrayList<>();
 
         // =================================================
         // MODULE 1: STRESS & ANXIETY
@@ -195,7 +264,7 @@ public class LearningDataInitializer
         ));
 
         m1.setQuizzes(quiz1);
-        moduleDao.save(m1);
+        modules.add(m1);
 
         // =================================================
         // MODULE 2: MINDFULNESS & MEDITATION
@@ -378,7 +447,7 @@ public class LearningDataInitializer
         ));
 
         m2.setQuizzes(quiz2);
-        moduleDao.save(m2);
+        modules.add(m2);
 
         // =================================================
         // MODULE 3: BUILDING RESILIENCE
@@ -504,7 +573,7 @@ public class LearningDataInitializer
         ));
 
         m3.setQuizzes(quiz3);
-        moduleDao.save(m3);
+        modules.add(m3);
 
         // =================================================
         // MODULE 4: DEPRESSION AWARENESS
@@ -606,7 +675,7 @@ public class LearningDataInitializer
         ));
 
         m4.setLessons(lessons4);
-        moduleDao.save(m4);
+        modules.add(m4);
 
         // =================================================
         // SIMPLE MODULES (WITHOUT DETAILED LESSONS)
@@ -627,8 +696,10 @@ public class LearningDataInitializer
                 true
         );
 
-        moduleDao.save(m5);
-        moduleDao.save(m6);
+        modules.add(m5);
+        modules.add(m6);
+
+        return modules;
     }
 
     // =================================================
@@ -679,27 +750,16 @@ public class LearningDataInitializer
         return m;
     }
 
-    // Optional: Update existing lessons with content if missing
-    private void updateExistingLessonsWithContent() {
-        List<LearningModule> modules = moduleDao.findAllWithLessonsAndQuiz();
-        
-        boolean updated = false;
-        for (LearningModule module : modules) {
-            for (Lesson lesson : module.getLessons()) {
-                if (lesson.getContent() == null || lesson.getContent().trim().isEmpty()) {
-                    // Add default content based on lesson title
-                    String defaultContent = createDefaultContent(lesson.getTitle());
-                    lesson.setContent(defaultContent);
-                    updated = true;
-                }
-            }
-        }
-        
-        if (updated) {
-            // Save all modules to persist changes
-            for (LearningModule module : modules) {
-                moduleDao.save(module);
-            }
+    // Lessons saved without content (older data) get a short default text
+    private void fillMissingLessonContent(JdbcTemplate jdbcTemplate) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT id, title FROM lesson WHERE content IS NULL OR TRIM(content) = ''",
+            rs -> {
+                updates.add(new Object[] { createDefaultContent(rs.getString("title")), rs.getLong("id") });
+            });
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE lesson SET content = ? WHERE id = ?", updates);
         }
     }
 
@@ -0,0 +1,106 @@
+package com.secj3303.config;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-time build of mood_user_summary and mood_weekly_rollup from the
+ * existing mood_entries. After that MoodTrackerService keeps both tables
+ * current, so this only runs while the summary table is still empty.
+ */
+@Component
+public class MoodRollupMigration {
+
+    private final AtomicBoolean migrated = new AtomicBoolean(false);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void buildRollups() {
+        if (!migrated.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            Integer summaries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mood_user_summary", Integer.class);
+            Integer entries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mood_entries", Integer.class);
+            if (summaries == null || summaries > 0 || entries == null || entries == 0) {
+                return;
+            }
+
+            // Weeks start on Monday (WEEKDAY() is 0 for Monday), matching MoodWeeklyRollup.weekStart
+            jdbcTemplate.update("DELETE FROM mood_weekly_rollup");
+            int weeklyRows = jdbcTemplate.update(
+                "INSERT INTO mood_weekly_rollup (username, week_start, mood_type, entry_count) " +
+                "SELECT username, DATE_SUB(entry_date, INTERVAL WEEKDAY(entry_date) DAY), mood_type, COUNT(*) " +
+                "FROM mood_entries " +
+                "GROUP BY username, DATE_SUB(entry_date, INTERVAL WEEKDAY(entry_date) DAY), mood_type");
+
+            // Summaries are written last, so a failed run is simply repeated on the next start
+            Map<String, UserTotals> byUser = new LinkedHashMap<>();
+            jdbcTemplate.query(
+                "SELECT username, COUNT(*) AS total FROM mood_entries GROUP BY username",
+                rs -> {
+                    byUser.put(rs.getString("username"), new UserTotals(rs.getInt("total")));
+                });
+            jdbcTemplate.query(
+                "SELECT DISTINCT username, entry_date FROM mood_entries ORDER BY username, entry_date DESC",
+                rs -> {
+                    byUser.get(rs.getString("username")).addDate(rs.getDate("entry_date").toLocalDate());
+                });
+
+            List<Object[]> inserts = new ArrayList<>(byUser.size());
+            for (Map.Entry<String, UserTotals> user : byUser.entrySet()) {
+                UserTotals totals = user.getValue();
+                inserts.add(new Object[] { user.getKey(), totals.total, Date.valueOf(totals.lastEntryDate), totals.streak });
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO mood_user_summary (username, total_entries, last_entry_date, streak_length) VALUES (?, ?, ?, ?)",
+                inserts);
+
+            System.out.println("✅ Built mood summaries for " + inserts.size() + " users (" + weeklyRows + " weekly rows)");
+
+        } catch (Exception e) {
+            System.err.println("❌ ERROR building mood rollups: " + e.getMessage());
+        }
+    }
+
+    private static class UserTotals {
+        final int total;
+        LocalDate lastEntryDate;
+        int streak;
+        boolean gapFound;
+
+        UserTotals(int total) {
+            this.total = total;
+        }
+
+        // Dates arrive newest first; the streak stops growing at the first gap
+        void addDate(LocalDate date) {
+            if (lastEntryDate == null) {
+                lastEntryDate = date;
+                streak = 1;
+            } else if (!gapFound && date.equals(lastEntryDate.minusDays(streak))) {
+                streak++;
+            } else {
+                gapFound = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.secj3303.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.secj3303.model.Assessment;
+import com.secj3303.model.LearningModule;
+import com.secj3303.model.Lesson;
+import com.secj3303.model.Question;
+import com.secj3303.model.QuizQuestion;
+
+/**
+ * Second-level cache regions for read-mostly reference data
+ * (learning modules and assessments). Regions are configured in ehcache.xml.
+ */
+@Component
+public class ReferenceDataCache {
+
+    public static final String LEARNING_REGION = "learning";
+    public static final String LEARNING_QUERY_REGION = "learning-queries";
+    public static final String ASSESSMENT_REGION = "assessment";
+    public static final String ASSESSMENT_QUERY_REGION = "assessment-queries";
+
+    private static final String[] REGIONS = {
+        LEARNING_REGION, LEARNING_QUERY_REGION, ASSESSMENT_REGION, ASSESSMENT_QUERY_REGION
+    };
+
+    @PersistenceUnit
+    private EntityManagerFactory emf;
+
+    // ===============================
+    // INVALIDATION
+    // ===============================
+
+    /**
+     * Drops cached modules, lessons, quiz questions and the cached
+     * module listings. Called after content is edited.
+     */
+    public void evictLearningContent() {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(LearningModule.class);
+        cache.evictEntityData(Lesson.class);
+        cache.evictEntityData(QuizQuestion.class);
+        cache.evictCollectionData(LearningModule.class.getName() + ".lessons");
+        cache.evictCollectionData(LearningModule.class.getName() + ".quizzes");
+        cache.evictCollectionData(QuizQuestion.class.getName() + ".options");
+        cache.evictQueryRegion(LEARNING_QUERY_REGION);
+    }
+
+    public void evictAssessments() {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(Assessment.class);
+        cache.evictEntityData(Question.class);
+        cache.evictCollectionData(Assessment.class.getName() + ".questions");
+        cache.evictQueryRegion(ASSESSMENT_QUERY_REGION);
+    }
+
+    // ===============================
+    // STATISTICS
+    // ===============================
+
+    /**
+     * Hit/miss/put counts per region, one row per region.
+     */
+    public List<Map<String, String>> getRegionStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<Map<String, String>> rows = new ArrayList<>();
+
+        for (String region : REGIONS) {
+            // null until a query region has been used for the first time
+            rows.add(toRow(region, statistics.getCacheRegionStatistics(region)));
+        }
+        return rows;
+    }
+
+    private Map<String, String> toRow(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return Map.of("region", region, "hits", "0", "misses", "0", "puts", "0", "hitRatio", "-");
+        }
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long lookups = hits + misses;
+        String hitRatio = lookups == 0 ? "-" : Math.round(hits * 100.0 / lookups) + "%";
+
+        return Map.of(
+            "region", region,
+            "hits", String.valueOf(hits),
+            "misses", String.valueOf(misses),
+            "puts", String.valueOf(stats.getPutCount()),
+            "hitRatio", hitRatio
+        );
+    }
+
+    private SessionFactory sessionFactory() {
+        return emf.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,275 @@
+package com.secj3303.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Request metrics for the admin dashboard, fed by this interceptor around
+ * every @Controller handler (registered in dispatcher-servlet.xml).
+ *
+ * Per handler it keeps a latency histogram and error count; overall it
+ * keeps one more histogram and a per-second request count for the last
+ * minute. Async handlers (coach replies, SSE streams) are timed until the
+ * response is complete. Static resources are not counted.
+ */
+@Component("requestMetrics")
+public class RequestMetrics implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_AT = RequestMetrics.class.getName() + ".startedAt";
+    private static final int WINDOW_SECONDS = 60;
+
+    @Autowired
+    private DataSourcePoolMetrics poolMetrics;
+
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    private final Map<String, HandlerStats> handlers = new ConcurrentHashMap<>();
+    private final LatencyHistogram overall = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    // Requests per second over the last minute; each slot is tagged with the second it counts
+    private final AtomicLongArray windowSeconds = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray windowCounts = new AtomicLongArray(WINDOW_SECONDS);
+
+    // ===============================
+    // INTERCEPTOR
+    // ===============================
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async handlers are dispatched again when their result is ready; keep the first start time
+        if (handler instanceof HandlerMethod && request.getAttribute(STARTED_AT) == null) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.isAsyncStarted()) {
+            return; // finished on the async dispatch
+        }
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (!(handler instanceof HandlerMethod) || startedAt == null) {
+            return;
+        }
+        request.removeAttribute(STARTED_AT);
+
+        long micros = (System.nanoTime() - (Long) startedAt) / 1000;
+        boolean failed = ex != null || response.getStatus() >= 500;
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String key = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+
+        HandlerStats stats = handlers.computeIfAbsent(key, k -> new HandlerStats(k, handlerName((HandlerMethod) handler)));
+        stats.latency.recordMicros(micros);
+        overall.recordMicros(micros);
+        if (failed) {
+            stats.errors.increment();
+            errors.increment();
+        }
+        countInWindow(System.currentTimeMillis() / 1000);
+    }
+
+    private void countInWindow(long second) {
+        int slot = (int) (second % WINDOW_SECONDS);
+        long tagged = windowSeconds.get(slot);
+        if (tagged != second && windowSeconds.compareAndSet(slot, tagged, second)) {
+            windowCounts.set(slot, 0);
+        }
+        windowCounts.incrementAndGet(slot);
+    }
+
+    private static String handlerName(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+
+    // ===============================
+    // READING
+    // ===============================
+    public long getTotalRequests() { return overall.getCount(); }
+
+    public long getErrorCount() { return errors.sum(); }
+
+    public long getUptimeSeconds() { return (System.currentTimeMillis() - startedAtMillis) / 1000; }
+
+    public LatencyHistogram getOverallLatency() { return overall; }
+
+    /**
+     * Requests completed in the last full minute (the current second excluded).
+     */
+    public long getRequestsLastMinute() {
+        long now = System.currentTimeMillis() / 1000;
+        long count = 0;
+        for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+            long second = windowSeconds.get(slot);
+            if (second < now && second >= now - WINDOW_SECONDS) {
+                count += windowCounts.get(slot);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Handlers by p95 latency, slowest first.
+     */
+    public List<HandlerStats> getHandlers() {
+        List<HandlerStats> rows = new ArrayList<>(handlers.values());
+        rows.sort(Comparator.comparingDouble(HandlerStats::getP95Millis).reversed());
+        return rows;
+    }
+
+    /**
+     * Cards in the same shape as the admin dashboard's system stats.
+     */
+    public List<Map<String, String>> getSystemStats() {
+        long total = getTotalRequests();
+        long lastMinute = getRequestsLastMinute();
+        String errorRate = total == 0 ? "0%" : String.format("%.1f%%", getErrorCount() * 100.0 / total);
+
+        List<Map<String, String>> stats = new ArrayList<>();
+        stats.add(Map.of("label", "Requests (last minute)", "value", String.valueOf(lastMinute),
+                         "change", String.format("%.1f req/s", lastMinute / (double) WINDOW_SECONDS),
+                         "icon", "activity", "color", "blue"));
+        stats.add(Map.of("label", "p95 Latency", "value", formatMillis(overall.getPercentileMillis(95)),
+                         "change", "p99 " + formatMillis(overall.getPercentileMillis(99)),
+                         "icon", "timer", "color", "purple"));
+        stats.add(Map.of("label", "Server Errors", "value", String.valueOf(getErrorCount()),
+                         "change", errorRate, "icon", "alert-triangle", "color", "orange"));
+        stats.add(Map.of("label", "Active Sessions", "value", String.valueOf(ActiveSessionCounter.getActiveSessions()),
+                         "change", ActiveSessionCounter.getCreatedSessions() + " since start",
+                         "icon", "users", "color", "green"));
+        return stats;
+    }
+
+    /**
+     * Metric/value rows for the totals panel.
+     */
+    public List<Map<String, String>> getTotals() {
+        long total = getTotalRequests();
+        long uptime = Math.max(1, getUptimeSeconds());
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        rows.add(Map.of("metric", "Uptime", "value", formatDuration(uptime)));
+        rows.add(Map.of("metric", "Requests Since Start", "value", String.valueOf(total)));
+        rows.add(Map.of("metric", "Average Throughput", "value", String.format("%.2f req/s", total / (double) uptime)));
+        rows.add(Map.of("metric", "Latency p50 / mean", "value",
+                        formatMillis(overall.getPercentileMillis(50)) + " / " + formatMillis(overall.getMeanMillis())));
+        return rows;
+    }
+
+    /**
+     * Everything above plus the connection pool, for GET /admin/metrics.
+     */
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("total", getTotalRequests());
+        requests.put("lastMinute", getRequestsLastMinute());
+        requests.put("errors", getErrorCount());
+        requests.put("latencyMillis", latencyOf(overall));
+
+        List<Map<String, Object>> handlerRows = new ArrayList<>();
+        for (HandlerStats stats : getHandlers()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("route", stats.getRoute());
+            row.put("handler", stats.getHandler());
+            row.put("count", stats.getCount());
+            row.put("errors", stats.getErrors());
+            row.put("latencyMillis", latencyOf(stats.latency));
+            handlerRows.add(row);
+        }
+
+        Map<String, Object> sessions = new LinkedHashMap<>();
+        sessions.put("active", ActiveSessionCounter.getActiveSessions());
+        sessions.put("created", ActiveSessionCounter.getCreatedSessions());
+
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("name", poolMetrics.getPoolName());
+        pool.put("active", poolMetrics.getActiveConnections());
+        pool.put("idle", poolMetrics.getIdleConnections());
+        pool.put("total", poolMetrics.getTotalConnections());
+        pool.put("max", poolMetrics.getMaxConnections());
+        pool.put("pendingThreads", poolMetrics.getPendingThreads());
+        pool.put("acquireCount", poolMetrics.getAcquireCount());
+        pool.put("timeoutCount", poolMetrics.getTimeoutCount());
+        pool.put("averageAcquireMillis", poolMetrics.getAverageAcquireMillis());
+        pool.put("maxAcquireMillis", poolMetrics.getMaxAcquireMillis());
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("uptimeSeconds", getUptimeSeconds());
+        snapshot.put("requests", requests);
+        snapshot.put("handlers", handlerRows);
+        snapshot.put("sessions", sessions);
+        snapshot.put("pool", pool);
+        return snapshot;
+    }
+
+    private static Map<String, Object> latencyOf(LatencyHistogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getMeanMillis());
+        latency.put("p50", histogram.getPercentileMillis(50));
+        latency.put("p95", histogram.getPercentileMillis(95));
+        latency.put("p99", histogram.getPercentileMillis(99));
+        return latency;
+    }
+
+    static String formatMillis(double millis) {
+        return millis < 10 ? String.format("%.1f ms", millis) : String.format("%.0f ms", millis);
+    }
+
+    private static String formatDuration(long seconds) {
+        long days = seconds / 86400;
+        long hours = seconds % 86400 / 3600;
+        long minutes = seconds % 3600 / 60;
+        return days > 0 ? days + "d " + hours + "h" : hours > 0 ? hours + "h " + minutes + "m" : minutes + "m " + seconds % 60 + "s";
+    }
+
+    /**
+     * Latency and errors of one route.
+     */
+    public static class HandlerStats {
+
+        private final String route;
+        private final String handler;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        HandlerStats(String route, String handler) {
+            this.route = route;
+            this.handler = handler;
+        }
+
+        public String getRoute() { return route; }
+
+        public String getHandler() { return handler; }
+
+        public long getCount() { return latency.getCount(); }
+
+        public long getErrors() { return errors.sum(); }
+
+        public double getP50Millis() { return latency.getPercentileMillis(50); }
+
+        public double getP95Millis() { return latency.getPercentileMillis(95); }
+
+        public double getP99Millis() { return latency.getPercentileMillis(99); }
+
+        public String getP50() { return formatMillis(getP50Millis()); }
+
+        public String getP95() { return formatMillis(getP95Millis()); }
+
+        public String getP99() { return formatMillis(getP99Millis()); }
+    }
+}
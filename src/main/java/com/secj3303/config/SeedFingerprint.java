@@ -0,0 +1,39 @@
+package com.secj3303.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 over the values of a seed set. Each value is length-prefixed,
+ * so ("ab", "c") and ("a", "bc") give different fingerprints.
+ */
+public class SeedFingerprint {
+
+    private final MessageDigest digest;
+
+    public SeedFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public SeedFingerprint add(Object... values) {
+        for (Object value : values) {
+            byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+            digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(bytes);
+        }
+        return this;
+    }
+
+    public String toHex() {
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
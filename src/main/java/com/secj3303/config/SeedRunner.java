@@ -0,0 +1,126 @@
+package com.secj3303.config;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads every SeedSet once per JVM at startup.
+ *
+ * The fingerprint each set had when it was last applied is kept in
+ * seed_fingerprint and read with a single query; sets whose content is
+ * unchanged are skipped. The rest run in parallel (they touch different
+ * tables), each in its own transaction together with its new fingerprint,
+ * so a failed set is simply retried on the next start.
+ */
+@Component
+public class SeedRunner {
+
+    // Static: child contexts publish ContextRefreshedEvent too, and each would get its own runner
+    private static final AtomicBoolean SEEDED = new AtomicBoolean(false);
+
+    @Autowired
+    private List<SeedSet> seedSets;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${seed.threads:4}")
+    private int threads;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void seed() {
+        if (!SEEDED.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS seed_fingerprint (" +
+                "seed_name VARCHAR(100) NOT NULL PRIMARY KEY, " +
+                "fingerprint CHAR(64) NOT NULL, " +
+                "applied_at DATETIME NOT NULL)");
+
+            Map<String, String> applied = new HashMap<>();
+            jdbcTemplate.query("SELECT seed_name, fingerprint FROM seed_fingerprint",
+                rs -> {
+                    applied.put(rs.getString("seed_name"), rs.getString("fingerprint"));
+                });
+
+            Map<SeedSet, String> changed = new LinkedHashMap<>();
+            for (SeedSet seedSet : seedSets) {
+                SeedFingerprint fingerprint = new SeedFingerprint();
+                seedSet.describe(fingerprint);
+                String hex = fingerprint.toHex();
+                if (!hex.equals(applied.get(seedSet.getName()))) {
+                    changed.put(seedSet, hex);
+                }
+            }
+
+            if (changed.isEmpty()) {
+                System.out.println("✅ Seed data unchanged (" + seedSets.size() + " sets), nothing to load");
+                return;
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, changed.size())));
+            try {
+                List<Future<?>> running = new ArrayList<>();
+                for (Map.Entry<SeedSet, String> seedSet : changed.entrySet()) {
+                    running.add(pool.submit(() -> apply(jdbcTemplate, seedSet.getKey(), seedSet.getValue())));
+                }
+                for (Future<?> future : running) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            System.out.println("✅ Seeded " + changed.size() + " of " + seedSets.size() + " sets in "
+                               + (System.currentTimeMillis() - startedAt) + " ms");
+
+        } catch (Exception e) {
+            System.err.println("❌ ERROR seeding data: " + e.getMessage());
+        }
+    }
+
+    private void apply(JdbcTemplate jdbcTemplate, SeedSet seedSet, String fingerprint) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                seedSet.load(jdbcTemplate);
+                jdbcTemplate.update(
+                    "INSERT INTO seed_fingerprint (seed_name, fingerprint, applied_at) VALUES (?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint), applied_at = VALUES(applied_at)",
+                    seedSet.getName(), fingerprint, new Timestamp(System.currentTimeMillis()));
+            });
+            System.out.println("✅ Seed set '" + seedSet.getName() + "' loaded in "
+                               + (System.currentTimeMillis() - startedAt) + " ms");
+        } catch (Exception e) {
+            System.err.println("❌ ERROR loading seed set '" + seedSet.getName() + "': " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.secj3303.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A named set of startup data, loaded by SeedRunner. The set is only
+ * loaded when its fingerprint differs from the one recorded the last time
+ * it was applied, so describe() must cover everything load() writes.
+ */
+public interface SeedSet {
+
+    // Key of the set in seed_fingerprint
+    String getName();
+
+    // Adds the set's content (not random or time-dependent values) to the fingerprint
+    void describe(SeedFingerprint fingerprint);
+
+    /**
+     * Writes the set inside a transaction. Rows that already exist are left
+     * alone, so a set can be applied to a database seeded by older code.
+     */
+    void load(JdbcTemplate jdbcTemplate);
+}
@@ -0,0 +1,177 @@
+package com.secj3303.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements run while an HTTP request is being handled.
+ *
+ * Every statement executed through the "dataSource" bean is timed by
+ * StatementCountingDataSource and recorded here under its shape (the SQL
+ * with literals replaced by ?). Hibernate also passes each statement it
+ * prepares through inspect(), which tells ORM statements apart from plain
+ * JDBC ones. A shape that runs more than db.sql.nPlusOneThreshold times in
+ * one request is reported as a likely N+1 when the request ends.
+ *
+ * Only threads inside SqlStatementFilter are counted; startup jobs, the
+ * schedulers and the coach executor are not.
+ */
+@Component("sqlStatementCounter")
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+
+    @Value("${db.sql.nPlusOneThreshold:5}")
+    private int nPlusOneThreshold;
+
+    // ===============================
+    // REQUEST SCOPE
+    // ===============================
+    public RequestStats begin() {
+        RequestStats stats = new RequestStats();
+        current.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        current.remove();
+    }
+
+    public boolean isCounting() {
+        return current.get() != null;
+    }
+
+    // ===============================
+    // RECORDING
+    // ===============================
+
+    /**
+     * Called by Hibernate for every statement it prepares; the SQL is
+     * passed through unchanged.
+     */
+    @Override
+    public String inspect(String sql) {
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.ormStatements++;
+        }
+        return sql;
+    }
+
+    /**
+     * Records one executed statement (a batch counts once).
+     */
+    public void record(String shape, long elapsedNanos) {
+        RequestStats stats = current.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statements++;
+        stats.elapsedNanos += elapsedNanos;
+
+        ShapeStats shapeStats = stats.shapes.computeIfAbsent(shape, ShapeStats::new);
+        shapeStats.count++;
+        if (shapeStats.count == nPlusOneThreshold + 1) {
+            // Only looked up once per shape, when it first crosses the threshold
+            shapeStats.caller = findCaller();
+        }
+    }
+
+    /**
+     * The SQL with literals replaced by ? and IN lists collapsed, so the
+     * same query with different arguments has the same shape.
+     */
+    public static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * Shapes of the request that ran more than db.sql.nPlusOneThreshold times.
+     */
+    public List<ShapeStats> findRepeated(RequestStats stats) {
+        return stats.shapes.values().stream()
+                .filter(shape -> shape.count > nPlusOneThreshold)
+                .sorted((a, b) -> Integer.compare(b.count, a.count))
+                .collect(Collectors.toList());
+    }
+
+    // First two application frames outside this package: usually the DAO method and the loop calling it
+    private static String findCaller() {
+        List<String> frames = StackWalker.getInstance().walk(stack -> stack
+                .filter(frame -> frame.getClassName().startsWith("com.secj3303.")
+                              && !frame.getClassName().startsWith("com.secj3303.config."))
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .distinct()
+                .limit(2)
+                .collect(Collectors.toList()));
+        return frames.isEmpty() ? "-" : String.join(" <- ", frames);
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int proxy = name.indexOf("$$");
+        return proxy > 0 ? name.substring(0, proxy) : name;
+    }
+
+    /**
+     * Statements of one request. Only touched by the request thread.
+     */
+    public static class RequestStats {
+
+        private int statements;
+        private int ormStatements;
+        private long elapsedNanos;
+        private final Map<String, ShapeStats> shapes = new HashMap<>();
+
+        public int getStatements() { return statements; }
+
+        public int getOrmStatements() { return ormStatements; }
+
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+
+        public int getDistinctShapes() { return shapes.size(); }
+
+        public int getMaxRepeat() {
+            int max = 0;
+            for (ShapeStats shape : shapes.values()) {
+                max = Math.max(max, shape.count);
+            }
+            return max;
+        }
+
+        public List<ShapeStats> getShapes() { return new ArrayList<>(shapes.values()); }
+    }
+
+    public static class ShapeStats {
+
+        private final String shape;
+        private int count;
+        private String caller = "-";
+
+        ShapeStats(String shape) {
+            this.shape = shape;
+        }
+
+        public String getShape() { return shape; }
+
+        public int getCount() { return count; }
+
+        public String getCaller() { return caller; }
+    }
+}
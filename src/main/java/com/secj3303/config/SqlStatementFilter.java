@@ -0,0 +1,132 @@
+package com.secj3303.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.secj3303.config.SqlStatementCounter.RequestStats;
+import com.secj3303.config.SqlStatementCounter.ShapeStats;
+
+/**
+ * Counts the SQL statements of each request (see SqlStatementCounter) and
+ * logs a warning for every query shape that looks like an N+1.
+ * Registered in web.xml in front of Spring Security.
+ *
+ * With the dev profile the counts are also sent back in an X-SQL-Stats
+ * header. Headers cannot be added once the body has started, so the header
+ * covers the statements run before the first byte is written, which is
+ * where controllers do their database work.
+ */
+@Component("sqlStatementFilter")
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-SQL-Stats";
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    @Autowired
+    private Environment environment;
+
+    private boolean exposeHeader;
+
+    @Override
+    protected void initFilterBean() {
+        exposeHeader = environment.acceptsProfiles(Profiles.of("dev"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStats stats = counter.begin();
+        try {
+            chain.doFilter(request, exposeHeader ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            counter.end();
+            for (ShapeStats shape : counter.findRepeated(stats)) {
+                System.err.println("❌ N+1 query suspected:"
+                        + " method=" + request.getMethod()
+                        + " uri=" + request.getRequestURI()
+                        + " repeats=" + shape.getCount()
+                        + " statements=" + stats.getStatements()
+                        + " caller=" + shape.getCaller()
+                        + " sql=\"" + shape.getShape() + "\"");
+            }
+        }
+    }
+
+    private static String describe(RequestStats stats) {
+        return String.format("statements=%d; hibernate=%d; db-ms=%.1f; shapes=%d; max-repeat=%d",
+                stats.getStatements(), stats.getOrmStatements(), stats.getElapsedMillis(),
+                stats.getDistinctShapes(), stats.getMaxRepeat());
+    }
+
+    /**
+     * Adds the header just before the response is committed.
+     */
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final RequestStats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, RequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeader() {
+            if (!written && !isCommitted()) {
+                setHeader(HEADER, describe(stats));
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.secj3303.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the connection pool so every statement executed during a request
+ * is timed and reported to SqlStatementCounter. Connections handed out
+ * outside a request are returned as they are, so startup jobs and
+ * background threads pay nothing.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementCounter counter;
+
+    public StatementCountingDataSource(DataSource targetDataSource, SqlStatementCounter counter) {
+        super(targetDataSource);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (!counter.isCounting()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(connection, method, args);
+
+            // The SQL of a prepared statement is known now; a plain Statement gets it per execute call
+            if (result instanceof CallableStatement) {
+                return wrapStatement(result, CallableStatement.class, SqlStatementCounter.shapeOf((String) args[0]));
+            }
+            if (result instanceof PreparedStatement) {
+                return wrapStatement(result, PreparedStatement.class, SqlStatementCounter.shapeOf((String) args[0]));
+            }
+            if (result instanceof Statement) {
+                return wrapStatement(result, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object wrapStatement(Object statement, Class<?> type, String shape) {
+            return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[] { type }, new StatementHandler((Statement) statement, shape));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedShape;
+        private String batchShape;
+
+        StatementHandler(Statement statement, String preparedShape) {
+            this.statement = statement;
+            this.preparedShape = preparedShape;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.equals("addBatch") && args != null && args.length == 1 && batchShape == null) {
+                batchShape = SqlStatementCounter.shapeOf((String) args[0]);
+            }
+            if (!name.startsWith("execute")) {
+                return StatementCountingDataSource.invoke(statement, method, args);
+            }
+
+            String shape = preparedShape;
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                shape = SqlStatementCounter.shapeOf((String) args[0]);
+            } else if (shape == null) {
+                shape = batchShape != null ? batchShape : "batch";
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                return StatementCountingDataSource.invoke(statement, method, args);
+            } finally {
+                counter.record(shape, System.nanoTime() - startedAt);
+                if (name.equals("executeBatch")) {
+                    batchShape = null;
+                }
+            }
+        }
+    }
+}
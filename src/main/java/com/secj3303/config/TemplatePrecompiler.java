@@ -0,0 +1,176 @@
+package com.secj3303.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.EngineContext;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.spring5.templateresolver.SpringResourceTemplateResolver;
+import org.thymeleaf.templatemode.TemplateMode;
+
+/**
+ * Parses every template under the views folder into the Thymeleaf cache at
+ * startup, so the first request to each page does not pay for parsing.
+ *
+ * Thymeleaf caches an included fragment per including template, so each
+ * fragment is parsed once for every template that includes it: the
+ * th:replace/th:insert targets found in each file, plus every "content"
+ * fragment for app-layout, which includes ~{${currentView} :: content}.
+ * Does nothing when the template cache is off (dev profile).
+ */
+@Component
+public class TemplatePrecompiler {
+
+    private static final String LAYOUT = "app-layout";
+    private static final String LAYOUT_FRAGMENT = "content";
+
+    // th:fragment="name" or th:fragment="name(params)"
+    private static final Pattern FRAGMENT = Pattern.compile("th:fragment=\"\\s*([\\w-]+)");
+    // th:replace="~{template :: fragment(...)}" or th:replace="template :: fragment"
+    private static final Pattern INCLUDE = Pattern.compile(
+        "th:(?:replace|insert|include)=\"(?:~\\{)?\\s*([\\w/-]+)\\s*::\\s*([\\w-]+)");
+
+    private final AtomicBoolean compiled = new AtomicBoolean(false);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
+    @Autowired
+    private SpringResourceTemplateResolver templateResolver;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void precompile() {
+        if (!compiled.compareAndSet(false, true)) {
+            return;
+        }
+        if (!templateResolver.isCacheable()) {
+            System.out.println("✅ Template cache off (dev profile), templates are read on every request");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, String> sources = readTemplates();
+
+            IEngineConfiguration configuration = templateEngine.getConfiguration();
+            TemplateManager templateManager = configuration.getTemplateManager();
+            ICache<TemplateCacheKey, TemplateModel> cache = configuration.getCacheManager().getTemplateCache();
+
+            // 1. Whole templates, under the same key a rendered view uses
+            int templates = 0;
+            for (String template : sources.keySet()) {
+                try {
+                    templateManager.parseAndProcess(new TemplateSpec(template, null, (TemplateMode) null, null),
+                                                    new Context(), Writer.nullWriter());
+                } catch (RuntimeException e) {
+                    // The parsed model is cached before processing starts, so processing
+                    // without a model or request may fail; a missing model is a parse error
+                    if (cache.get(cacheKey(template)) == null) {
+                        System.err.println("❌ ERROR parsing template " + template + ": " + e.getMessage());
+                        continue;
+                    }
+                }
+                templates++;
+            }
+
+            // 2. Fragments, once per including template
+            Map<String, Set<List<String>>> includesByOwner = findIncludes(sources);
+            int fragments = 0;
+            for (Map.Entry<String, Set<List<String>>> owner : includesByOwner.entrySet()) {
+                TemplateModel ownerModel = cache.get(cacheKey(owner.getKey()));
+                if (ownerModel == null) {
+                    continue;
+                }
+                EngineContext context = new EngineContext(configuration, ownerModel.getTemplateData(), null,
+                                                          Locale.getDefault(), Collections.emptyMap());
+                for (List<String> include : owner.getValue()) {
+                    if (sources.containsKey(include.get(0))) {
+                        templateManager.parseStandalone(context, include.get(0), Collections.singleton(include.get(1)),
+                                                        null, true, false);
+                        fragments++;
+                    }
+                }
+            }
+
+            System.out.println("✅ Precompiled " + templates + " of " + sources.size() + " templates and " + fragments + " fragments in "
+                               + (System.currentTimeMillis() - startedAt) + " ms");
+
+        } catch (Exception e) {
+            System.err.println("❌ ERROR precompiling templates: " + e.getMessage());
+        }
+    }
+
+    // Key of a whole template parsed with no selectors or attributes
+    private static TemplateCacheKey cacheKey(String template) {
+        return new TemplateCacheKey(null, template, null, 0, 0, null, null);
+    }
+
+    // Template name (path under the views folder, no suffix) -> file contents
+    private Map<String, String> readTemplates() throws IOException {
+        String prefix = templateResolver.getPrefix();
+        String suffix = templateResolver.getSuffix();
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (Resource resource : applicationContext.getResources(prefix + "**/*" + suffix)) {
+            String path = resource.getURL().getPath();
+            int start = path.lastIndexOf(prefix);
+            if (start < 0) {
+                continue;
+            }
+            String name = path.substring(start + prefix.length(), path.length() - suffix.length());
+            try (InputStream in = resource.getInputStream()) {
+                sources.put(name, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return sources;
+    }
+
+    // Owner template -> [included template, fragment] pairs
+    private Map<String, Set<List<String>>> findIncludes(Map<String, String> sources) {
+        Map<String, Set<List<String>>> includes = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Matcher include = INCLUDE.matcher(source.getValue());
+            while (include.find()) {
+                includes.computeIfAbsent(source.getKey(), k -> new LinkedHashSet<>())
+                        .add(List.of(include.group(1), include.group(2)));
+            }
+            Matcher fragment = FRAGMENT.matcher(source.getValue());
+            while (fragment.find()) {
+                if (LAYOUT_FRAGMENT.equals(fragment.group(1))) {
+                    includes.computeIfAbsent(LAYOUT, k -> new LinkedHashSet<>())
+                            .add(List.of(source.getKey(), LAYOUT_FRAGMENT));
+                }
+            }
+        }
+        return includes;
+    }
+}
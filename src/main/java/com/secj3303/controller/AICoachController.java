@@ -2,42 +2,53 @@ package com.secj3303.controller;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpSession;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody; // CRITICAL IMPORT
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.WebUtils;
 
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.Message;
+import com.secj3303.service.CoachHistoryService;
+import com.secj3303.service.CoachReplyService;
 
 @Controller
 @RequestMapping("/coach")
 public class AICoachController {
 
-    private static final String HISTORY_KEY = "coachChatHistory";
+    // Messages POSTed to /coach/stream whose reply has not been streamed yet, keyed by message id
+    private static final String PENDING_STREAMS = "coachPendingStreams";
+
+    @Autowired
+    private CoachReplyService coachReplyService;
+
+    @Autowired
+    private CoachHistoryService coachHistoryService;
+
+    @Value("${coach.reply.timeoutMillis:10000}")
+    private long replyTimeoutMillis;
 
-    private List<Message> getChatHistory(HttpSession session) {
-        List<Message> history = (List<Message>) session.getAttribute(HISTORY_KEY);
-        if (history == null) {
-            history = new ArrayList<>();
-            Message greeting = new Message("Hello! I'm your AI Mental Health Coach. I'm here to provide support and guidance for your wellbeing journey. How are you feeling today?", "ai");
-            history.add(greeting);
-            session.setAttribute(HISTORY_KEY, history);
-        }
-        return history;
-    }
-    
     // Helper to inject mock data so app-layout doesn't break
     private void addMockLayoutData(Model model) {
         model.addAttribute("modules", new ArrayList<>());
@@ -54,12 +65,14 @@ public class AICoachController {
     }
     
     @GetMapping
-    public String coachView(HttpSession session, Model model) {
+    public String coachView(HttpSession session, Model model, Authentication authentication) {
         addMockLayoutData(model);
         model.addAttribute("currentView", "coach");
         
-        List<Message> history = getChatHistory(session);
-        model.addAttribute("messages", history);
+        // Only the latest messages are rendered; the page fetches older ones from /coach/history
+        String username = authentication.getName();
+        model.addAttribute("messages", coachHistoryService.getRecent(username));
+        model.addAttribute("hasOlderMessages", coachHistoryService.hasOlder(username));
 
         Object user = session.getAttribute("currentUser");
         if (user == null) {
@@ -76,60 +89,100 @@ public class AICoachController {
     }
 
     // --- UPDATED METHOD FOR AJAX ---
+    // The servlet thread is released right away; the reply is written when the future completes
     @PostMapping("/send")
     @ResponseBody // <--- This is the key change! Returns JSON instead of HTML redirect
-    public Message sendMessage(@RequestParam String inputMessage, HttpSession session) {
+    public DeferredResult<Message> sendMessage(@RequestParam String inputMessage, Authentication authentication) {
+        DeferredResult<Message> result = new DeferredResult<>(replyTimeoutMillis);
         String cleanMessage = inputMessage.trim();
-        if (cleanMessage.isEmpty()) return null;
+        if (cleanMessage.isEmpty()) {
+            result.setResult(null);
+            return result;
+        }
 
-        List<Message> history = getChatHistory(session);
+        String username = authentication.getName();
         
         // 1. Add User Message
-        history.add(new Message(cleanMessage, "user"));
-        
-        // 2. Simulate Thinking Delay (Optional, adds realism)
+        coachHistoryService.append(username, new Message(cleanMessage, "user"));
+
+        // 2. Generate the AI Response asynchronously (includes the thinking delay)
+        result.onTimeout(() -> result.setErrorResult(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)));
         try {
-            TimeUnit.MILLISECONDS.sleep(500 + ThreadLocalRandom.current().nextInt(500));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            coachReplyService.reply(cleanMessage).whenComplete((responseText, error) -> {
+                if (error != null) {
+                    result.setErrorResult(error);
+                    return;
+                }
+                // 3. Add AI Response and return ONLY the AI message to the frontend
+                result.setResult(coachHistoryService.append(username, new Message(responseText, "ai")));
+            });
+        } catch (TaskRejectedException e) {
+            // Executor queue is full; tell the client to retry instead of queueing forever
+            result.setErrorResult(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE));
         }
 
-        // 3. Generate and Add AI Response
-        String responseText = generateAIResponse(cleanMessage);
-        Message aiMessage = new Message(responseText, "ai");
-        history.add(aiMessage);
-        
-        session.setAttribute(HISTORY_KEY, history);
-
-        // 4. Return ONLY the AI message to the frontend
-        return aiMessage;
+        return result;
     }
 
-    @PostMapping("/clear")
-    public String clearChat(HttpSession session) {
-        session.removeAttribute(HISTORY_KEY);
-        return "redirect:/coach";
-    }
+    // Stores the user's message and returns the id its reply is streamed from, so the GET below never writes
+    @PostMapping("/stream")
+    @ResponseBody
+    public ResponseEntity<Map<String, Long>> startStream(@RequestParam String inputMessage,
+                                                         Authentication authentication, HttpSession session) {
+        String cleanMessage = inputMessage.trim();
+        if (cleanMessage.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
 
-    private String generateAIResponse(String userInput) {
-        String input = userInput.toLowerCase().trim();
+        Message userMessage = coachHistoryService.append(authentication.getName(), new Message(cleanMessage, "user"));
+        pendingStreams(session).put(userMessage.getId(), userMessage);
+        return ResponseEntity.ok(Map.of("streamId", userMessage.getId()));
+    }
 
-        if (input.contains("suicid") || input.contains("harm myself") || input.contains("end it") || input.contains("kill myself")) {
-            return "I'm concerned about what you've shared. Please reach out to a counselor immediately or contact a crisis helpline:\n\n🆘 National Crisis Hotline: 988\n📞 Crisis Text Line: Text HOME to 741741\n\nYou don't have to face this alone.";
-        }
-        if (Pattern.compile("^(hi|hello|hey|good morning)").matcher(input).find()) {
-            return "Hello! How can I support you today?";
-        }
-        if (input.contains("stress")) {
-            return "I understand you're feeling stressed. Have you tried deep breathing exercises? Inhale for 4 seconds, hold for 7, and exhale for 8.";
+    // Streams the reply as Server-Sent Events: "chunk" events, then "done" with the whole message.
+    // Only a message this session POSTed to /coach/stream can be streamed, and only once.
+    @GetMapping(path = "/stream/{streamId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessage(@PathVariable long streamId,
+                                                    Authentication authentication, HttpSession session) {
+        Message userMessage = pendingStreams(session).remove(streamId);
+        if (userMessage == null) {
+            return ResponseEntity.notFound().build();
         }
-        if (input.contains("anxious") || input.contains("anxiety")) {
-            return "Anxiety can be tough. Try the 5-4-3-2-1 grounding technique: Name 5 things you see, 4 you feel, 3 you hear, 2 you smell, and 1 you taste.";
+
+        String username = authentication.getName();
+        SseEmitter emitter = coachReplyService.openStream(userMessage.getText(),
+            aiMessage -> coachHistoryService.append(username, aiMessage));
+        if (emitter == null) {
+            // Too many open streams; the page falls back to /coach/send, which stores the message itself
+            coachHistoryService.remove(username, userMessage);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
-        if (input.contains("sleep") || input.contains("tired")) {
-            return "Sleep is vital. Try avoiding screens 30 minutes before bed and keeping your room cool and dark.";
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Message> pendingStreams(HttpSession session) {
+        synchronized (WebUtils.getSessionMutex(session)) {
+            Map<Long, Message> pending = (Map<Long, Message>) session.getAttribute(PENDING_STREAMS);
+            if (pending == null) {
+                pending = new ConcurrentHashMap<>();
+                session.setAttribute(PENDING_STREAMS, pending);
+            }
+            return pending;
         }
-        
-        return "Thank you for sharing. Could you tell me more about that? I'm here to listen.";
     }
-}
\ No newline at end of file
+
+    // Older messages, newest first, for the "Load earlier messages" button
+    @GetMapping("/history")
+    @ResponseBody
+    public KeysetPage<Message> olderMessages(@RequestParam long beforeId, Authentication authentication) {
+        return coachHistoryService.getOlderPage(authentication.getName(), beforeId);
+    }
+
+    @PostMapping("/clear")
+    public String clearChat(Authentication authentication) {
+        coachHistoryService.clear(authentication.getName());
+        return "redirect:/coach";
+    }
+}
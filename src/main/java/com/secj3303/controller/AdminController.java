@@ -1,6 +1,7 @@
 package com.secj3303.controller;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -13,8 +14,12 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.secj3303.config.DataSourcePoolMetrics;
+import com.secj3303.config.ReferenceDataCache;
+import com.secj3303.config.RequestMetrics;
 import com.secj3303.model.AdminData;
 import com.secj3303.model.AdminData.ContentModule;
 import com.secj3303.model.AdminData.FlaggedContentItem;
@@ -27,6 +32,17 @@ public class AdminController {
     private static final String FLAGGED_KEY = "flaggedContent";
     private static final String DEFAULT_VIEW = "admin";
 
+    private final DataSourcePoolMetrics poolMetrics;
+    private final ReferenceDataCache referenceDataCache;
+    private final RequestMetrics requestMetrics;
+
+    public AdminController(DataSourcePoolMetrics poolMetrics, ReferenceDataCache referenceDataCache,
+                           RequestMetrics requestMetrics) {
+        this.poolMetrics = poolMetrics;
+        this.referenceDataCache = referenceDataCache;
+        this.requestMetrics = requestMetrics;
+    }
+
     // --- Session Access Utilities ---
     
     private List<ContentModule> getContentModules(HttpSession session) {
@@ -54,9 +70,12 @@ public class AdminController {
         model.addAttribute("currentView", DEFAULT_VIEW);
         model.addAttribute("modules", getContentModules(session));
         model.addAttribute("flaggedContent", getFlaggedContent(session));
-        model.addAttribute("systemStats", AdminData.SYSTEM_STATS);
-        model.addAttribute("recentActivity", AdminData.RECENT_ACTIVITY);
-        model.addAttribute("analyticsData", AdminData.ANALYTICS_DATA);
+        model.addAttribute("systemStats", requestMetrics.getSystemStats());
+        model.addAttribute("endpointStats", requestMetrics.getHandlers());
+        model.addAttribute("totals", requestMetrics.getTotals());
+        model.addAttribute("poolName", poolMetrics.getPoolName());
+        model.addAttribute("poolStats", poolMetrics.getStats());
+        model.addAttribute("cacheStats", referenceDataCache.getRegionStats());
         
         // View flags (all false for main dashboard)
         model.addAttribute("isViewingModule", false);
@@ -66,6 +85,14 @@ public class AdminController {
         return "app-layout";
     }
 
+    // --- Metrics for scraping (same numbers as the dashboard) ---
+
+    @GetMapping("/metrics")
+    @ResponseBody
+    public Map<String, Object> metrics() {
+        return requestMetrics.getSnapshot();
+    }
+
     // --- 2. Module Detail View (Replaces isViewingModule conditional) ---
 
     @GetMapping("/module/view")
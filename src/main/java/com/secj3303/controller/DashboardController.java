@@ -1,7 +1,9 @@
 package com.secj3303.controller;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.Authentication;
@@ -58,15 +60,17 @@ public class DashboardController {
         // 3. Fetch Real Gamification Stats (Points & Streak)
         Gamification gamification = gamificationService.getUserGamificationProfile(email);
         String points = String.valueOf(gamification.getXpPoints());
-        String streak = String.valueOf(gamification.getDailyStreak());
+        String streak = String.valueOf(gamification.getCurrentStreak(LocalDate.now()));
 
         // 4. Calculate Real Learning Progress (%)
         List<LearningModule> modules = moduleDao.findAllWithLessonsAndQuiz();
         long totalModules = modules.size();
         long completedModules = 0;
 
+        Map<Long, ModuleProgress> progressByModule = progressDao.findAllByUserEmail(email);
+
         for (LearningModule m : modules) {
-            ModuleProgress p = progressDao.findByUserEmailAndModuleId(email, m.getId()).orElse(null);
+            ModuleProgress p = progressByModule.get(m.getId());
             if (p != null && p.getProgress() == 100) {
                 completedModules++;
             }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,8 +16,10 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.secj3303.dao.PostDao;
 import com.secj3303.dao.ReportDao;
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.Post;
-import com.secj3303.model.Report;
+import com.secj3303.model.ReportedPost;
+import com.secj3303.service.ForumService;
 
 @Controller
 @RequestMapping("/forum-management") // Updated URL path
@@ -28,17 +31,11 @@ public class ForumManagementController {
     @Autowired
     private ReportDao reportDao;
 
-    public static class ReportedPostDTO {
-        public Report report;
-        public Post post;
+    @Autowired
+    private ForumService forumService;
 
-        public ReportedPostDTO(Report report, Post post) {
-            this.report = report;
-            this.post = post;
-        }
-        public Report getReport() { return report; }
-        public Post getPost() { return post; }
-    }
+    @Value("${forum.moderation.pageSize:20}")
+    private int moderationPageSize;
 
     private void addLayoutData(Model model) {
         model.addAttribute("user", new MockUser("Admin", "admin@healthhub.com", "ROLE_ADMINISTRATOR"));
@@ -59,6 +56,7 @@ public class ForumManagementController {
     @GetMapping
     public String dashboard(
             @RequestParam(defaultValue = "posts") String view, 
+            @RequestParam(required = false) Integer beforeReportId,
             Model model
     ) {
         addLayoutData(model);
@@ -67,22 +65,16 @@ public class ForumManagementController {
         model.addAttribute("activeView", view);
 
         if ("moderation".equals(view)) {
-            List<Report> reports = reportDao.findAll();
-            List<ReportedPostDTO> reportedPosts = new ArrayList<>();
-
-            for (Report r : reports) {
-                try {
-                    Post p = postDao.findById(r.getPostId());
-                    if (p != null) {
-                        reportedPosts.add(new ReportedPostDTO(r, p));
-                    } else {
-                        reportDao.delete(r.getId());
-                    }
-                } catch (Exception e) {
-
-                }
-            }
-            model.addAttribute("reportedPosts", reportedPosts);
+            KeysetPage<ReportedPost> reportPage = KeysetPage.of(
+                    reportDao.findReportedPosts(beforeReportId, moderationPageSize + 1), moderationPageSize);
+
+            model.addAttribute("reportedPosts", reportPage.getItems());
+            model.addAttribute("reportPage", reportPage);
+            // Badge shows up to one page of posts, then "N+"
+            int reportedPostCount = reportDao.countReportedPosts(moderationPageSize + 1);
+            model.addAttribute("reportedPostCount", Math.min(reportedPostCount, moderationPageSize));
+            model.addAttribute("reportedPostCountCapped", reportedPostCount > moderationPageSize);
+            model.addAttribute("beforeReportId", beforeReportId);
         
         } else {
             List<Post> allPosts = postDao.findAll();
@@ -96,21 +88,23 @@ public class ForumManagementController {
     @PostMapping("/delete-post/{id}")
     public String deletePost(@PathVariable int id, RedirectAttributes redirect) {
         try {
-            reportDao.deleteByPostId(id); 
-            postDao.delete(id);
-            redirect.addFlashAttribute("successMessage", "Forum post deleted successfully.");
+            if (forumService.deletePost(id)) {
+                redirect.addFlashAttribute("successMessage", "Forum post deleted successfully.");
+            } else {
+                redirect.addFlashAttribute("errorMessage", "Post not found. It may have already been deleted.");
+            }
         } catch (Exception e) {
             redirect.addFlashAttribute("errorMessage", "Error deleting post.");
         }
         return "redirect:/forum-management?view=posts";
     }
 
-    // Dismiss a Report
-    @PostMapping("/moderation/dismiss/{reportId}")
-    public String dismissReport(@PathVariable int reportId, RedirectAttributes redirect) {
+    // Dismiss all reports on a post
+    @PostMapping("/moderation/dismiss/{postId}")
+    public String dismissReports(@PathVariable int postId, RedirectAttributes redirect) {
         try {
-            reportDao.delete(reportId);
-            redirect.addFlashAttribute("successMessage", "Report dismissed. Post remains active.");
+            reportDao.deleteByPostId(postId);
+            redirect.addFlashAttribute("successMessage", "Reports dismissed. Post remains active.");
         } catch (Exception e) {
             redirect.addFlashAttribute("errorMessage", "Error dismissing report.");
         }
@@ -121,9 +115,11 @@ public class ForumManagementController {
     @PostMapping("/moderation/delete/{postId}")
     public String deleteReportedPost(@PathVariable int postId, RedirectAttributes redirect) {
         try {
-            reportDao.deleteByPostId(postId); // Clean up reports
-            postDao.delete(postId);           // Delete content
-            redirect.addFlashAttribute("successMessage", "Post and associated reports deleted successfully.");
+            if (forumService.deletePost(postId)) { // Deletes reports and content
+                redirect.addFlashAttribute("successMessage", "Post and associated reports deleted successfully.");
+            } else {
+                redirect.addFlashAttribute("errorMessage", "Post not found. It may have already been deleted.");
+            }
         } catch (Exception e) {
             redirect.addFlashAttribute("errorMessage", "Error deleting post.");
         }
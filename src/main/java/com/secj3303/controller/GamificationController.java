@@ -1,5 +1,7 @@
 package com.secj3303.controller;
 
+import java.time.LocalDate;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -35,7 +37,7 @@ public class GamificationController {
         model.addAttribute("user", user);
         model.addAttribute("userPoints", profile.getXpPoints());
         model.addAttribute("currentLevel", profile.getCurrentLevel());
-        model.addAttribute("dayStreak", profile.getDailyStreak());
+        model.addAttribute("dayStreak", profile.getCurrentStreak(LocalDate.now()));
         model.addAttribute("pointsToNextLevel", gamificationService.getPointsToNextLevel(profile.getXpPoints()));
         
         // Calculate Progress Bar
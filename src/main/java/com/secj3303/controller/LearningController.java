@@ -205,10 +205,10 @@ public class LearningController {
         long completed = 0;
         long inProgress = 0;
 
+        Map<Long, ModuleProgress> progressByModule = progressDao.findAllByUserEmail(email);
+
         for (LearningModule m : modules) {
-            ModuleProgress p =
-                    progressDao.findByUserEmailAndModuleId(email, m.getId())
-                            .orElse(null);
+            ModuleProgress p = progressByModule.get(m.getId());
 
             int val = p != null ? p.getProgress() : 0;
             m.setProgress(val);
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.secj3303.config.ReferenceDataCache;
 import com.secj3303.dao.LearningModuleDao;
 import com.secj3303.dao.LessonDao;
 import com.secj3303.dao.QuizQuestionDao;
@@ -29,14 +30,17 @@ public class ModuleManagementController {
     private final LearningModuleDao moduleDao;
     private final LessonDao lessonDao;
     private final QuizQuestionDao quizDao;
+    private final ReferenceDataCache referenceDataCache;
 
     public ModuleManagementController(
             LearningModuleDao moduleDao,
             LessonDao lessonDao,
-            QuizQuestionDao quizDao) {
+            QuizQuestionDao quizDao,
+            ReferenceDataCache referenceDataCache) {
         this.moduleDao = moduleDao;
         this.lessonDao = lessonDao;
         this.quizDao = quizDao;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // ================= ROOT =================
@@ -86,12 +90,14 @@ public class ModuleManagementController {
         module.setLocked(form.isLocked());
 
         moduleDao.save(module);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 
     @PostMapping("/modules/delete/{id}")
     public String deleteModule(@PathVariable Long id) {
         moduleDao.deleteById(id);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 
@@ -140,12 +146,14 @@ public class ModuleManagementController {
         lesson.setUrl(form.getUrl());
 
         lessonDao.save(lesson);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 
     @PostMapping("/lessons/delete/{id}")
     public String deleteLesson(@PathVariable Long id) {
         lessonDao.deleteById(id);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 
@@ -194,12 +202,14 @@ public class ModuleManagementController {
         quiz.setCorrectAnswer(form.getCorrectAnswer());
 
         quizDao.save(quiz);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 
     @PostMapping("/quizzes/delete/{id}")
     public String deleteQuiz(@PathVariable Long id) {
         quizDao.deleteById(id);
+        referenceDataCache.evictLearningContent();
         return "redirect:/learning/manage/modules";
     }
 }
@@ -1,7 +1,11 @@
 package com.secj3303.controller;
 
 import com.secj3303.dao.MoodEntryDao;
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.MoodEntry;
+import com.secj3303.model.MoodSummary;
+import com.secj3303.service.MoodTrackerService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
@@ -19,12 +23,17 @@ import java.util.*;
 public class MoodTrackerController {
 
     private final MoodEntryDao moodEntryDao;
+    private final MoodTrackerService moodTrackerService;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    
+    // Entries shown in the trends calendar
+    private static final int CALENDAR_ENTRIES = 14;
 
     // Constructor injection
-    public MoodTrackerController(MoodEntryDao moodEntryDao) {
+    public MoodTrackerController(MoodEntryDao moodEntryDao, MoodTrackerService moodTrackerService) {
         this.moodEntryDao = moodEntryDao;
+        this.moodTrackerService = moodTrackerService;
     }
     
     // --- Main View Handler ---
@@ -32,6 +41,8 @@ public class MoodTrackerController {
     public String moodTrackerDashboard(
         @RequestParam(defaultValue = "entry") String view,
         @RequestParam(required = false) Integer editId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+        @RequestParam(required = false) Integer beforeId,
         Model model,
         Authentication authentication
     ) {
@@ -57,38 +68,35 @@ public class MoodTrackerController {
         model.addAttribute("userDetails", userDetails);
         model.addAttribute("activeTab", "mood");
         
-        // Get all mood entries for the user
-        List<MoodEntry> entries = moodEntryDao.findByUsername(username);
-        
         // --- Calculate Stats ---
-        Map<String, Object> moodStats = MoodEntry.getMoodStats(entries);
-        model.addAttribute("currentStreak", MoodEntry.calculateStreak(entries));
-        model.addAttribute("totalEntries", entries.size());
+        // Totals and streak come from the user's summary row, weekly figures from the rollup
+        Optional<MoodSummary> summary = moodTrackerService.getSummary(username);
+        Map<String, Object> moodStats = moodTrackerService.getThisWeekStats(username);
+        model.addAttribute("currentStreak", summary.map(s -> s.getCurrentStreak(LocalDate.now())).orElse(0));
+        model.addAttribute("totalEntries", summary.map(MoodSummary::getTotalEntries).orElse(0));
         
         // Add all stats to model
-        if (moodStats != null) {
-            model.addAttribute("last7Days", moodStats.get("last7Days"));
-            model.addAttribute("moodCounts", moodStats.get("moodCounts"));
-            model.addAttribute("mostFrequentMoodId", moodStats.get("mostFrequentMoodId"));
-            model.addAttribute("totalEntriesLast7Days", moodStats.get("totalEntriesLast7Days"));
-            model.addAttribute("mostFrequentCount", moodStats.get("mostFrequentCount"));
-            model.addAttribute("mostFrequentMoodData", moodStats.get("mostFrequentMoodData"));
-        } else {
-            // Provide default values
-            model.addAttribute("last7Days", new ArrayList<MoodEntry>());
-            model.addAttribute("moodCounts", new HashMap<String, Integer>());
-            model.addAttribute("mostFrequentMoodId", "neutral");
-            model.addAttribute("totalEntriesLast7Days", 0);
-            model.addAttribute("mostFrequentCount", 0);
-            model.addAttribute("mostFrequentMoodData", new HashMap<String, String>());
-        }
+        model.addAttribute("moodCounts", moodStats.get("moodCounts"));
+        model.addAttribute("mostFrequentMoodId", moodStats.get("mostFrequentMoodId"));
+        model.addAttribute("totalEntriesThisWeek", moodStats.get("totalEntriesThisWeek"));
+        model.addAttribute("mostFrequentCount", moodStats.get("mostFrequentCount"));
+        model.addAttribute("mostFrequentMoodData", moodStats.get("mostFrequentMoodData"));
 
         // --- View State ---
         model.addAttribute("currentView", "assessment");
         model.addAttribute("view", view);
-        model.addAttribute("moodEntries", entries);
         model.addAttribute("moodDefinitions", MoodEntry.MOOD_DEFINITIONS);
         
+        // Entries are only loaded by the views that list them
+        if ("history".equals(view)) {
+            KeysetPage<MoodEntry> historyPage = moodTrackerService.getHistoryPage(username, beforeDate, beforeId);
+            model.addAttribute("historyPage", historyPage);
+            model.addAttribute("moodEntries", historyPage.getItems());
+            model.addAttribute("beforeId", beforeId);
+        } else if ("trends".equals(view)) {
+            model.addAttribute("moodEntries", moodTrackerService.getLatestEntries(username, CALENDAR_ENTRIES));
+        }
+        
         // --- Handle Edit/Create Form State ---
         boolean isEditing = false;
         MoodEntry editingEntry = null;
@@ -181,14 +189,9 @@ public class MoodTrackerController {
         
         if (formData.getId() != null) {
             // Update existing entry
-            Optional<MoodEntry> existingOpt = moodEntryDao.findById(formData.getId());
-            if (existingOpt.isPresent()) {
-                MoodEntry existing = existingOpt.get();
-                existing.setMood(formData.getMood());
-                existing.setNotes(formData.getNotes());
-                existing.setEntryDate(entryDate);
-                existing.setTimestamp(LocalDateTime.now());
-                moodEntryDao.update(existing);
+            Optional<MoodEntry> updated = moodTrackerService.updateEntry(
+                formData.getId(), formData.getMood(), formData.getNotes(), entryDate);
+            if (updated.isPresent()) {
                 successMessage = "Mood entry updated successfully!";
             } else {
                 redirect.addFlashAttribute("alert", "Entry not found.");
@@ -199,7 +202,7 @@ public class MoodTrackerController {
             // Create new entry
             formData.setEntryDate(entryDate);
             formData.setTimestamp(LocalDateTime.now());
-            moodEntryDao.save(formData);
+            moodTrackerService.saveEntry(formData);
             successMessage = "Mood entry saved successfully!";
         }
 
@@ -227,7 +230,7 @@ public class MoodTrackerController {
         // Check if the entry belongs to the user
         Optional<MoodEntry> entryOpt = moodEntryDao.findById(id);
         if (entryOpt.isPresent() && entryOpt.get().getUsername().equals(username)) {
-            boolean deleted = moodEntryDao.delete(id);
+            boolean deleted = moodTrackerService.deleteEntry(id);
             if (deleted) {
                 redirect.addFlashAttribute("alert", "Mood entry deleted successfully.");
                 redirect.addFlashAttribute("alertType", "success");
@@ -1,7 +1,5 @@
 package com.secj3303.controller;
 
-import java.util.List;
-
 import javax.servlet.http.HttpSession;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,12 +15,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.secj3303.dao.PersonDao;
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.PeerSupportModels;
 import com.secj3303.model.PeerSupportModels.ContentCheckResult;
 import com.secj3303.model.Person;
 import com.secj3303.model.Post;
 import com.secj3303.model.Reply;
 import com.secj3303.model.Report;
+import com.secj3303.service.ContentScreeningService;
 import com.secj3303.service.ForumService;
 
 @Controller
@@ -35,6 +35,9 @@ public class PeerSupportController {
     @Autowired
     private PersonDao personDao;
 
+    @Autowired
+    private ContentScreeningService contentScreeningService;
+
     private static final String DEFAULT_VIEW = "peer-support";
 
     // ===============================
@@ -46,11 +49,13 @@ public class PeerSupportController {
             @RequestParam(required = false) Integer expandedId,
             @RequestParam(required = false) String modal,
             @RequestParam(required = false) Integer reportId,
+            @RequestParam(required = false) Integer beforeLikes,
+            @RequestParam(required = false) Integer beforeId,
             Model model,
             Authentication authentication,
             HttpSession session
     ) {
-        List<Post> filteredPosts = forumService.getPostsByCategory(category);
+        KeysetPage<Post> feedPage = forumService.getFeedPage(category, beforeLikes, beforeId);
 
         Person person = getAuthenticatedPerson(authentication);
 
@@ -58,9 +63,17 @@ public class PeerSupportController {
         model.addAttribute("categories", forumService.getCategoriesWithCounts());
         model.addAttribute("reportReasons", PeerSupportModels.REPORT_REASONS);
         model.addAttribute("selectedCategory", category);
-        model.addAttribute("filteredPosts", filteredPosts);
+        model.addAttribute("filteredPosts", feedPage.getItems());
+        model.addAttribute("feedPage", feedPage);
+        model.addAttribute("beforeLikes", beforeLikes);
+        model.addAttribute("beforeId", beforeId);
         model.addAttribute("expandedPost", expandedId);
 
+        // Replies are only loaded for the one post that is open
+        if (expandedId != null) {
+            model.addAttribute("expandedReplies", forumService.getReplies(expandedId));
+        }
+
         model.addAttribute("showCreatePostModal", "create".equals(modal));
         model.addAttribute("showReportModal", "report".equals(modal) && reportId != null);
 
@@ -88,8 +101,8 @@ public class PeerSupportController {
             Authentication authentication,
             RedirectAttributes redirect
     ) {
-        ContentCheckResult titleCheck = PeerSupportModels.checkContentForHarmfulText(newPost.getTitle());
-        ContentCheckResult contentCheck = PeerSupportModels.checkContentForHarmfulText(newPost.getContent());
+        ContentCheckResult titleCheck = contentScreeningService.check(newPost.getTitle());
+        ContentCheckResult contentCheck = contentScreeningService.check(newPost.getContent());
 
         if (!titleCheck.isClean) {
             redirect.addFlashAttribute("contentWarning", titleCheck.warning);
@@ -133,9 +146,14 @@ public class PeerSupportController {
     public String handleSubmitReply(
             @PathVariable int postId,
             @RequestParam String replyText,
+            @RequestParam(defaultValue = "all") String currentCategory,
+            @RequestParam(required = false) Integer beforeLikes,
+            @RequestParam(required = false) Integer beforeId,
             Authentication authentication,
             RedirectAttributes redirect
     ) {
+        keepFeedPosition(redirect, currentCategory, beforeLikes, beforeId);
+
         if (replyText.trim().isEmpty()) {
             redirect.addFlashAttribute("alert", "Reply cannot be empty.");
             redirect.addFlashAttribute("alertType", "error");
@@ -143,8 +161,7 @@ public class PeerSupportController {
             return "redirect:/forum";
         }
 
-        ContentCheckResult contentCheck =
-                PeerSupportModels.checkContentForHarmfulText(replyText);
+        ContentCheckResult contentCheck = contentScreeningService.check(replyText);
 
         if (!contentCheck.isClean) {
             redirect.addFlashAttribute("alert", "Content Warning: " + contentCheck.warning);
@@ -183,14 +200,17 @@ public class PeerSupportController {
             @PathVariable int postId,
             @RequestParam String currentCategory,
             @RequestParam(required = false) Integer expandedId,
+            @RequestParam(required = false) Integer beforeLikes,
+            @RequestParam(required = false) Integer beforeId,
+            Authentication authentication,
             RedirectAttributes redirect
     ) {
-        forumService.likePost(postId);
+        forumService.likePost(postId, authentication.getName());
 
         if (expandedId != null) {
             redirect.addAttribute("expandedId", expandedId);
         }
-        redirect.addAttribute("category", currentCategory);
+        keepFeedPosition(redirect, currentCategory, beforeLikes, beforeId);
         return "redirect:/forum";
     }
 
@@ -202,11 +222,14 @@ public class PeerSupportController {
             @PathVariable int postId,
             @PathVariable int replyId,
             @RequestParam String currentCategory,
+            @RequestParam(required = false) Integer beforeLikes,
+            @RequestParam(required = false) Integer beforeId,
+            Authentication authentication,
             RedirectAttributes redirect
     ) {
-        forumService.likeReply(replyId);
+        forumService.likeReply(replyId, authentication.getName());
 
-        redirect.addAttribute("category", currentCategory);
+        keepFeedPosition(redirect, currentCategory, beforeLikes, beforeId);
         redirect.addAttribute("expandedId", postId);
         return "redirect:/forum";
     }
@@ -252,6 +275,19 @@ public class PeerSupportController {
     // ===============================
     // HELPERS
     // ===============================
+
+    // Sends the user back to the feed page they were on
+    private void keepFeedPosition(RedirectAttributes redirect, String category,
+                                  Integer beforeLikes, Integer beforeId) {
+        redirect.addAttribute("category", category);
+        if (beforeLikes != null) {
+            redirect.addAttribute("beforeLikes", beforeLikes);
+        }
+        if (beforeId != null) {
+            redirect.addAttribute("beforeId", beforeId);
+        }
+    }
+
     private Person getAuthenticatedPerson(Authentication authentication) {
         String email = authentication.getName();
         Person person = personDao.findByEmail(email);
@@ -1,5 +1,6 @@
 package com.secj3303.controller;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.servlet.http.HttpSession;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -22,6 +24,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.secj3303.model.Assessment;
 import com.secj3303.model.AssessmentResult;
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.Question;
 import com.secj3303.model.Student;
 import com.secj3303.model.User;
@@ -83,6 +86,8 @@ public class SelfAssessmentController {
         @RequestParam(defaultValue = "assessments") String tab,
         @RequestParam(required = false) String searchQuery,
         @RequestParam(defaultValue = "all") String filterRisk,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime historyBefore,
+        @RequestParam(required = false) Integer historyBeforeId,
         Model model,
         HttpSession session,
         Authentication authentication
@@ -134,14 +139,8 @@ public class SelfAssessmentController {
             if (student.isPresent()) {
                 Student s = student.get();
                 
-                // Load assessment history
-                List<AssessmentResult> history = assessmentService.getStudentAssessmentHistory(s.getId());
-                
-                // Set the history on the student object
-                s.setAssessmentHistory(history);
-                
-                // Also set the assessment count
-                s.setAssessmentCount(history != null ? history.size() : 0);
+                // Load one page of assessment history
+                loadHistoryPage(s, historyBefore, historyBeforeId, model);
                 
                 model.addAttribute("selectedStudent", s);
                 session.setAttribute(SELECTED_STUDENT_ID_KEY, s.getId());
@@ -164,8 +163,10 @@ public class SelfAssessmentController {
         Optional<Student> currentStudent = getCurrentStudent(authentication);
         if (currentStudent.isPresent()) {
             Student student = currentStudent.get();
-            List<AssessmentResult> pastResults = assessmentService.getStudentAssessmentHistory(student.getId());
-            model.addAttribute("pastResults", pastResults);
+            KeysetPage<AssessmentResult> historyPage = assessmentService.getStudentAssessmentHistoryPage(
+                student.getId(), historyBefore, historyBeforeId);
+            model.addAttribute("pastResults", historyPage.getItems());
+            model.addAttribute("historyPage", historyPage);
             session.setAttribute("studentId", student.getId());
             
             // Load saved progress from database
@@ -176,6 +177,15 @@ public class SelfAssessmentController {
         return "self-assessment";
     }
     
+    // Load one keyset page of a student's history (newest first) plus the total count
+    private void loadHistoryPage(Student student, LocalDateTime before, Integer beforeId, Model model) {
+        KeysetPage<AssessmentResult> historyPage =
+            assessmentService.getStudentAssessmentHistoryPage(student.getId(), before, beforeId);
+        student.setAssessmentHistory(historyPage.getItems());
+        student.setAssessmentCount((int) assessmentService.getAssessmentCount(student.getId()));
+        model.addAttribute("historyPage", historyPage);
+    }
+    
     // Load saved progress for a student
     private Map<String, AssessmentProgress> loadSavedProgress(Integer studentId, HttpSession session) {
         Map<String, AssessmentProgress> savedProgress = 
@@ -688,9 +698,7 @@ public class SelfAssessmentController {
         if ("faculty".equals(user.getRole()) || "counsellor".equals(user.getRole())) {
             Optional<Student> student = assessmentService.getStudentById(result.getStudent().getId());
             student.ifPresent(s -> {
-                List<AssessmentResult> history = assessmentService.getStudentAssessmentHistory(s.getId());
-                s.setAssessmentHistory(history);
-                s.setAssessmentCount(history != null ? history.size() : 0);
+                loadHistoryPage(s, null, null, model);
                 model.addAttribute("selectedStudent", s);
             });
             
@@ -728,9 +736,7 @@ public class SelfAssessmentController {
         }
         
         Student s = student.get();
-        List<AssessmentResult> history = assessmentService.getStudentAssessmentHistory(s.getId());
-        s.setAssessmentHistory(history);
-        s.setAssessmentCount(history != null ? history.size() : 0);
+        loadHistoryPage(s, null, null, model);
         
         model.addAttribute("selectedReport", result);
         model.addAttribute("selectedStudent", s);
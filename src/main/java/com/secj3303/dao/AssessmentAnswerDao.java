@@ -7,6 +7,10 @@ import java.util.Map;
 public interface AssessmentAnswerDao extends GenericDao<AssessmentAnswer> {
     List<AssessmentAnswer> findByStudentAndAssessment(Integer studentId, Integer assessmentId);
     Map<Integer, Integer> getAnswerMapByStudentAndAssessment(Integer studentId, Integer assessmentId);
-    void saveAnswers(Map<Integer, Integer> answers, Integer assessmentId, Integer studentId);
+    /**
+     * Upserts all answers for one (student, assessment) pair in a single JDBC batch.
+     * @return number of answers sent; the driver does not report rows written for rewritten batches
+     */
+    int saveAnswers(Map<Integer, Integer> answers, Integer assessmentId, Integer studentId);
     void deleteByStudentAndAssessment(Integer studentId, Integer assessmentId);
 }
\ No newline at end of file
@@ -2,12 +2,14 @@ package com.secj3303.dao;
 
 import com.secj3303.dao.AssessmentAnswerDao;
 import com.secj3303.model.AssessmentAnswer;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
+import java.sql.PreparedStatement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,11 @@ import java.util.Optional;
 @Transactional
 public class AssessmentAnswerDaoHibernate implements AssessmentAnswerDao {
     
+    private static final String UPSERT_ANSWER_SQL =
+        "INSERT INTO assessment_answers (student_id, assessment_id, question_id, answer) " +
+        "VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE answer = VALUES(answer)";
+    
     @PersistenceContext
     private EntityManager entityManager;
     
@@ -86,56 +93,33 @@ public class AssessmentAnswerDaoHibernate implements AssessmentAnswerDao {
     
     @Override
     @Transactional
-    public void saveAnswers(Map<Integer, Integer> answers, Integer assessmentId, Integer studentId) {
-        System.out.println("DEBUG: Saving " + answers.size() + " answers for student " + studentId + ", assessment " + assessmentId);
-        
-        // Debug: Print what's being saved
-        for (Map.Entry<Integer, Integer> entry : answers.entrySet()) {
-            System.out.println("DEBUG: Saving Q" + entry.getKey() + " = " + entry.getValue());
+    public int saveAnswers(Map<Integer, Integer> answers, Integer assessmentId, Integer studentId) {
+        if (answers == null || answers.isEmpty()) {
+            return 0;
         }
-        
-        // First get existing answers to merge/update instead of delete
-        Map<Integer, Integer> existingAnswers = getAnswerMapByStudentAndAssessment(studentId, assessmentId);
-        System.out.println("DEBUG: Found " + existingAnswers.size() + " existing answers");
-        
-        // Process each answer
-        for (Map.Entry<Integer, Integer> entry : answers.entrySet()) {
-            Integer questionId = entry.getKey();
-            Integer answerValue = entry.getValue();
-            
-            if (existingAnswers.containsKey(questionId)) {
-                // Update existing answer - find and update
-                TypedQuery<AssessmentAnswer> findQuery = entityManager.createQuery(
-                    "SELECT aa FROM AssessmentAnswer aa WHERE aa.studentId = :studentId AND aa.assessmentId = :assessmentId AND aa.questionId = :questionId", 
-                    AssessmentAnswer.class);
-                findQuery.setParameter("studentId", studentId);
-                findQuery.setParameter("assessmentId", assessmentId);
-                findQuery.setParameter("questionId", questionId);
-                
-                try {
-                    AssessmentAnswer existingAnswer = findQuery.getSingleResult();
-                    existingAnswer.setAnswer(answerValue);
-                    entityManager.merge(existingAnswer);
-                    System.out.println("DEBUG: Updated answer for Q" + questionId);
-                } catch (Exception e) {
-                    // If not found, create new
-                    createNewAnswer(questionId, answerValue, assessmentId, studentId);
+
+        // Relies on uk_answer_student_assessment_question (student_id, assessment_id, question_id)
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(UPSERT_ANSWER_SQL)) {
+                int sent = 0;
+                for (Map.Entry<Integer, Integer> entry : answers.entrySet()) {
+                    if (entry.getKey() == null || entry.getValue() == null) {
+                        continue;
+                    }
+                    ps.setInt(1, studentId);
+                    ps.setInt(2, assessmentId);
+                    ps.setInt(3, entry.getKey());
+                    ps.setInt(4, entry.getValue());
+                    ps.addBatch();
+                    sent++;
+                }
+                if (sent > 0) {
+                    // Rewritten into one multi-row statement, which reports no per-row counts
+                    ps.executeBatch();
                 }
-            } else {
-                // Create new answer
-                createNewAnswer(questionId, answerValue, assessmentId, studentId);
+                return sent;
             }
-        }
-    }
-
-    private void createNewAnswer(Integer questionId, Integer answerValue, Integer assessmentId, Integer studentId) {
-        AssessmentAnswer answer = new AssessmentAnswer();
-        answer.setQuestionId(questionId);
-        answer.setAnswer(answerValue);
-        answer.setAssessmentId(assessmentId);
-        answer.setStudentId(studentId);
-        entityManager.persist(answer);
-        System.out.println("DEBUG: Created new answer for Q" + questionId);
+        });
     }
     
     @Override
@@ -1,7 +1,10 @@
 package com.secj3303.dao;
 
+import com.secj3303.config.ReferenceDataCache;
 import com.secj3303.dao.AssessmentDao;
 import com.secj3303.model.Assessment;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,7 @@ public class AssessmentDaoHibernate implements AssessmentDao {
     public List<Assessment> findAll() {
         TypedQuery<Assessment> query = entityManager.createQuery(
             "SELECT a FROM Assessment a", Assessment.class);
+        cacheable(query);
         return query.getResultList();
     }
     
@@ -74,7 +78,11 @@ public class AssessmentDaoHibernate implements AssessmentDao {
     public List<Assessment> findAllWithQuestions() {
         TypedQuery<Assessment> query = entityManager.createQuery(
             "SELECT DISTINCT a FROM Assessment a LEFT JOIN FETCH a.questions", Assessment.class);
-        return query.getResultList();
+        cacheable(query);
+        List<Assessment> assessments = query.getResultList();
+        // On a query cache hit the fetch join is skipped; load questions from the collection cache
+        assessments.forEach(a -> Hibernate.initialize(a.getQuestions()));
+        return assessments;
     }
     
     @Override
@@ -82,10 +90,18 @@ public class AssessmentDaoHibernate implements AssessmentDao {
         TypedQuery<Assessment> query = entityManager.createQuery(
             "SELECT a FROM Assessment a LEFT JOIN FETCH a.questions WHERE a.id = :id", Assessment.class);
         query.setParameter("id", id);
+        cacheable(query);
         try {
-            return Optional.ofNullable(query.getSingleResult());
+            Assessment assessment = query.getSingleResult();
+            Hibernate.initialize(assessment.getQuestions());
+            return Optional.of(assessment);
         } catch (Exception e) {
             return Optional.empty();
         }
     }
+
+    private void cacheable(TypedQuery<Assessment> query) {
+        query.setHint(QueryHints.HINT_CACHEABLE, true);
+        query.setHint(QueryHints.HINT_CACHE_REGION, ReferenceDataCache.ASSESSMENT_QUERY_REGION);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.secj3303.dao;
 
 import com.secj3303.model.AssessmentResult;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +10,13 @@ public interface AssessmentResultDao extends GenericDao<AssessmentResult> {
     List<AssessmentResult> findByAssessmentId(Integer assessmentId);
     List<AssessmentResult> findBySeverity(String severity);
     Optional<AssessmentResult> findLatestByStudentId(Integer studentId);
+    
+    /**
+     * Newest-first history after the (submittedAt, id) cursor; a null cursor starts at the newest result.
+     * Served by idx_result_student_submitted.
+     */
+    List<AssessmentResult> findPageByStudentId(Integer studentId, LocalDateTime beforeSubmittedAt, Integer beforeId, int limit);
+    
+    long countByStudentId(Integer studentId);
     Integer getTotalScoreByStudentAndAssessment(Integer studentId, Integer assessmentId);
 }
\ No newline at end of file
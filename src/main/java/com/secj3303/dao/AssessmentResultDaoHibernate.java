@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,7 +66,8 @@ public class AssessmentResultDaoHibernate implements AssessmentResultDao {
     @Override
     public List<AssessmentResult> findByStudentId(Integer studentId) {
         TypedQuery<AssessmentResult> query = entityManager.createQuery(
-            "SELECT ar FROM AssessmentResult ar WHERE ar.student.id = :studentId ORDER BY ar.date DESC", 
+            "SELECT ar FROM AssessmentResult ar WHERE ar.student.id = :studentId " +
+            "ORDER BY ar.submittedAt DESC, ar.id DESC", 
             AssessmentResult.class);
         query.setParameter("studentId", studentId);
         return query.getResultList();
@@ -74,7 +76,8 @@ public class AssessmentResultDaoHibernate implements AssessmentResultDao {
     @Override
     public List<AssessmentResult> findByAssessmentId(Integer assessmentId) {
         TypedQuery<AssessmentResult> query = entityManager.createQuery(
-            "SELECT ar FROM AssessmentResult ar WHERE ar.assessment.id = :assessmentId ORDER BY ar.date DESC", 
+            "SELECT ar FROM AssessmentResult ar WHERE ar.assessment.id = :assessmentId " +
+            "ORDER BY ar.submittedAt DESC, ar.id DESC", 
             AssessmentResult.class);
         query.setParameter("assessmentId", assessmentId);
         return query.getResultList();
@@ -93,7 +96,7 @@ public class AssessmentResultDaoHibernate implements AssessmentResultDao {
     public Optional<AssessmentResult> findLatestByStudentId(Integer studentId) {
         TypedQuery<AssessmentResult> query = entityManager.createQuery(
             "SELECT ar FROM AssessmentResult ar WHERE ar.student.id = :studentId " +
-            "ORDER BY ar.date DESC", AssessmentResult.class);
+            "ORDER BY ar.submittedAt DESC, ar.id DESC", AssessmentResult.class);
         query.setParameter("studentId", studentId);
         query.setMaxResults(1);
         try {
@@ -103,6 +106,34 @@ public class AssessmentResultDaoHibernate implements AssessmentResultDao {
         }
     }
     
+    @Override
+    public List<AssessmentResult> findPageByStudentId(Integer studentId, LocalDateTime beforeSubmittedAt,
+                                                      Integer beforeId, int limit) {
+        boolean hasCursor = beforeSubmittedAt != null && beforeId != null;
+        TypedQuery<AssessmentResult> query = entityManager.createQuery(
+            "SELECT ar FROM AssessmentResult ar WHERE ar.student.id = :studentId " +
+            (hasCursor
+                ? "AND (ar.submittedAt < :beforeSubmittedAt " +
+                  "OR (ar.submittedAt = :beforeSubmittedAt AND ar.id < :beforeId)) "
+                : "") +
+            "ORDER BY ar.submittedAt DESC, ar.id DESC", AssessmentResult.class);
+        query.setParameter("studentId", studentId);
+        if (hasCursor) {
+            query.setParameter("beforeSubmittedAt", beforeSubmittedAt);
+            query.setParameter("beforeId", beforeId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+    
+    @Override
+    public long countByStudentId(Integer studentId) {
+        return entityManager.createQuery(
+            "SELECT COUNT(ar) FROM AssessmentResult ar WHERE ar.student.id = :studentId", Long.class)
+            .setParameter("studentId", studentId)
+            .getSingleResult();
+    }
+    
     @Override
     public Integer getTotalScoreByStudentAndAssessment(Integer studentId, Integer assessmentId) {
         TypedQuery<Integer> query = entityManager.createQuery(
@@ -5,8 +5,21 @@ import java.util.List;
 import com.secj3303.model.Category;
 
 public interface CategoryDao {
+    String ALL_CATEGORY_ID = "all";
+
     List<Category> findAll();
     Category findById(String id);
     void save(Category category);
     void update(Category category);
-}
\ No newline at end of file
+
+    /**
+     * Adds delta to the post count of the category and of the "all" bucket.
+     * Runs in the caller's transaction so counts move with the post itself.
+     */
+    void incrementCount(String categoryId, int delta);
+
+    /**
+     * Recomputes every category count from forum_posts in one UPDATE.
+     */
+    void reconcileCounts();
+}
@@ -37,4 +37,26 @@ public class CategoryDaoImpl implements CategoryDao {
     public void update(Category category) {
         entityManager.merge(category);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void incrementCount(String categoryId, int delta) {
+        List<String> ids = categoryId == null
+                ? List.of(ALL_CATEGORY_ID)
+                : List.of(ALL_CATEGORY_ID, categoryId);
+        entityManager.createQuery("UPDATE Category c SET c.count = c.count + :delta WHERE c.id IN (:ids)")
+                .setParameter("delta", delta)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public void reconcileCounts() {
+        // One statement, so it takes the category row locks that incrementCount
+        // waits on and counts posts committed by the time it gets them
+        entityManager.createQuery(
+                "UPDATE Category c SET c.count = " +
+                "(SELECT COUNT(p) FROM Post p WHERE c.id = :all OR p.category = c.id)")
+                .setParameter("all", ALL_CATEGORY_ID)
+                .executeUpdate();
+    }
+}
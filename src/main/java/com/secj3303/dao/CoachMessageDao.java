@@ -0,0 +1,15 @@
+package com.secj3303.dao;
+
+import com.secj3303.model.CoachMessage;
+import java.util.List;
+
+public interface CoachMessageDao {
+    CoachMessage save(CoachMessage message);
+
+    boolean delete(Long id);
+
+    // Newest first; beforeId null starts from the latest message
+    List<CoachMessage> findPage(String username, Long beforeId, int limit);
+
+    int deleteByUsername(String username);
+}
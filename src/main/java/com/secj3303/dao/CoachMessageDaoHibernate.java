@@ -0,0 +1,56 @@
+package com.secj3303.dao;
+
+import com.secj3303.model.CoachMessage;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+@Repository
+@Transactional
+public class CoachMessageDaoHibernate implements CoachMessageDao {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public CoachMessage save(CoachMessage message) {
+        entityManager.persist(message);
+        return message;
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        CoachMessage message = entityManager.find(CoachMessage.class, id);
+        if (message != null) {
+            entityManager.remove(message);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoachMessage> findPage(String username, Long beforeId, int limit) {
+        String jpql = "SELECT m FROM CoachMessage m WHERE m.username = :username " +
+                     (beforeId != null ? "AND m.id < :beforeId " : "") +
+                     "ORDER BY m.id DESC";
+        TypedQuery<CoachMessage> query = entityManager.createQuery(jpql, CoachMessage.class);
+        query.setParameter("username", username);
+        if (beforeId != null) {
+            query.setParameter("beforeId", beforeId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public int deleteByUsername(String username) {
+        return entityManager.createQuery("DELETE FROM CoachMessage m WHERE m.username = :username")
+                .setParameter("username", username)
+                .executeUpdate();
+    }
+}
@@ -4,7 +4,9 @@ import com.secj3303.model.CounsellingSession;
 import com.secj3303.model.Counsellor;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 public interface CounsellingSessionDao {
     void save(CounsellingSession session);
@@ -19,6 +21,13 @@ public interface CounsellingSessionDao {
     List<CounsellingSession> findByCounsellorAndDate(Counsellor counsellor, LocalDate date);
     List<CounsellingSession> findByStatus(com.secj3303.model.CounsellingSession.SessionStatus status);
     List<CounsellingSession> findByStudentConfirmed(boolean confirmed);
+
+    /**
+     * Start times of the counsellor's non-cancelled sessions between from and
+     * to (inclusive), grouped by date. Reads only the columns it needs and is
+     * served by idx_counsellor_date.
+     */
+    Map<LocalDate, List<LocalTime>> findActiveStartTimes(String counsellorId, LocalDate from, LocalDate to);
     
     // Student-related methods - NEW
     List<CounsellingSession> findByStudentIdOrderByDateDescStartTimeDesc(String studentId);
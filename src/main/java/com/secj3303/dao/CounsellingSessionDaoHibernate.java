@@ -9,7 +9,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @Transactional
@@ -69,6 +73,25 @@ public class CounsellingSessionDaoHibernate implements CounsellingSessionDao {
         return query.getResultList();
     }
 
+    @Override
+    public Map<LocalDate, List<LocalTime>> findActiveStartTimes(String counsellorId, LocalDate from, LocalDate to) {
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT s.date, s.startTime FROM CounsellingSession s " +
+                "WHERE s.counsellor.id = :counsellorId AND s.date BETWEEN :from AND :to " +
+                "AND s.status <> :cancelled", Object[].class)
+                .setParameter("counsellorId", counsellorId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("cancelled", CounsellingSession.SessionStatus.CANCELLED)
+                .getResultList();
+
+        Map<LocalDate, List<LocalTime>> startTimes = new HashMap<>();
+        for (Object[] row : rows) {
+            startTimes.computeIfAbsent((LocalDate) row[0], d -> new ArrayList<>()).add((LocalTime) row[1]);
+        }
+        return startTimes;
+    }
+
     @Override
     public List<CounsellingSession> findUpcomingSessions() {
         TypedQuery<CounsellingSession> query = entityManager.createQuery(
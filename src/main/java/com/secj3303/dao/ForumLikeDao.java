@@ -0,0 +1,27 @@
+package com.secj3303.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.secj3303.model.ForumLike;
+
+public interface ForumLikeDao {
+    /**
+     * Keys (see ForumLike.key) of everything the user has liked.
+     */
+    Set<String> findKeysByUser(String userEmail);
+
+    /**
+     * Inserts the likes in one JDBC batch, skipping any that already exist.
+     * @return the likes that were actually inserted
+     */
+    List<ForumLike> saveAll(Collection<ForumLike> likes);
+
+    void deleteByTarget(String targetType, int targetId);
+
+    /**
+     * Deletes the likes on every reply of the post.
+     */
+    void deleteByRepliesOfPost(int postId);
+}
@@ -0,0 +1,125 @@
+package com.secj3303.dao;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.secj3303.model.ForumLike;
+
+@Repository
+@Transactional
+public class ForumLikeDaoImpl implements ForumLikeDao {
+
+    // Duplicates hit uk_like_user_target and are ignored
+    private static final String INSERT_LIKE_SQL =
+        "INSERT IGNORE INTO forum_likes (user_email, target_type, target_id) VALUES (?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<String> findKeysByUser(String userEmail) {
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT l.targetType, l.targetId FROM ForumLike l WHERE l.userEmail = :email", Object[].class)
+                .setParameter("email", userEmail)
+                .getResultList();
+
+        Set<String> keys = new HashSet<>();
+        for (Object[] row : rows) {
+            keys.add(ForumLike.key((String) row[0], (Integer) row[1]));
+        }
+        return keys;
+    }
+
+    @Override
+    public List<ForumLike> saveAll(Collection<ForumLike> likes) {
+        if (likes.isEmpty()) {
+            return List.of();
+        }
+        // Rewritten batches report no per-row results, so the rows are looked up
+        // on the unique key before and after; within one REPEATABLE READ
+        // transaction the difference is exactly what this batch inserted
+        Set<String> before = storedRows(likes);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_LIKE_SQL)) {
+                for (ForumLike like : likes) {
+                    ps.setString(1, like.getUserEmail());
+                    ps.setString(2, like.getTargetType());
+                    ps.setInt(3, like.getTargetId());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+        Set<String> after = storedRows(likes);
+
+        List<ForumLike> inserted = new ArrayList<>();
+        for (ForumLike like : likes) {
+            String row = rowKey(like.getUserEmail(), like.getTargetType(), like.getTargetId());
+            // add() also skips a like queued twice in the same batch
+            if (after.contains(row) && before.add(row)) {
+                inserted.add(like);
+            }
+        }
+        return inserted;
+    }
+
+    // Rows among the given likes that are already stored, as rowKey strings
+    private Set<String> storedRows(Collection<ForumLike> likes) {
+        Map<String, Set<Integer>> idsByType = new HashMap<>();
+        Set<String> users = new HashSet<>();
+        for (ForumLike like : likes) {
+            idsByType.computeIfAbsent(like.getTargetType(), k -> new HashSet<>()).add(like.getTargetId());
+            users.add(like.getUserEmail());
+        }
+
+        Set<String> rows = new HashSet<>();
+        for (Map.Entry<String, Set<Integer>> type : idsByType.entrySet()) {
+            List<Object[]> stored = entityManager.createQuery(
+                    "SELECT l.targetId, l.userEmail FROM ForumLike l " +
+                    "WHERE l.targetType = :type AND l.targetId IN :ids AND l.userEmail IN :users", Object[].class)
+                    .setParameter("type", type.getKey())
+                    .setParameter("ids", type.getValue())
+                    .setParameter("users", users)
+                    .getResultList();
+            for (Object[] row : stored) {
+                rows.add(rowKey((String) row[1], type.getKey(), (Integer) row[0]));
+            }
+        }
+        return rows;
+    }
+
+    private static String rowKey(String userEmail, String targetType, int targetId) {
+        return userEmail + "|" + ForumLike.key(targetType, targetId);
+    }
+
+    @Override
+    public void deleteByTarget(String targetType, int targetId) {
+        entityManager.createQuery("DELETE FROM ForumLike l WHERE l.targetType = :type AND l.targetId = :id")
+                .setParameter("type", targetType)
+                .setParameter("id", targetId)
+                .executeUpdate();
+    }
+
+    @Override
+    public void deleteByRepliesOfPost(int postId) {
+        entityManager.createQuery(
+                "DELETE FROM ForumLike l WHERE l.targetType = :type " +
+                "AND l.targetId IN (SELECT r.id FROM Reply r WHERE r.post.id = :postId)")
+                .setParameter("type", ForumLike.TYPE_REPLY)
+                .setParameter("postId", postId)
+                .executeUpdate();
+    }
+}
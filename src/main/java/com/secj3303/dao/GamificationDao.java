@@ -1,12 +1,26 @@
 package com.secj3303.dao;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.secj3303.model.Gamification;
 
 public interface GamificationDao {
-    void syncUserProgress(String userEmail);
     Optional<Gamification> findByUserEmail(String userEmail);
-    List<Gamification> getLeaderboard(int limit);
-}
\ No newline at end of file
+
+    /**
+     * Loads the user's row for update, creating it first if needed.
+     */
+    Gamification lockOrCreate(String userEmail);
+
+    /**
+     * Recomputes XP and level of every user from module_progress in two
+     * statements and returns the number of rows that were out of date.
+     */
+    int reconcileXp();
+
+    /**
+     * User email -> XP for every user, used to build the in-memory leaderboard.
+     */
+    Map<String, Integer> findAllXp();
+}
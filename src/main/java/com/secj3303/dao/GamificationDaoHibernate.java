@@ -1,14 +1,15 @@
 package com.secj3303.dao;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
-import javax.persistence.Query;
 
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +22,29 @@ public class GamificationDaoHibernate implements GamificationDao {
     @PersistenceContext
     private EntityManager em;
 
-    private static final int POINTS_PER_MODULE = 100;
-    private static final int POINTS_PER_QUIZ = 50;
+    // Concurrent first events for the same user both succeed, one insert is ignored
+    private static final String CREATE_ROW_SQL =
+        "INSERT IGNORE INTO gamifications (user_email, xp_points, current_level, daily_streak) VALUES (?, 0, 1, 0)";
+
+    private static final String CREATE_MISSING_ROWS_SQL = """
+        INSERT IGNORE INTO gamifications (user_email, xp_points, current_level, daily_streak)
+        SELECT DISTINCT user_email, 0, 1, 0 FROM module_progress
+        """;
+
+    // Only rows whose stored XP differs from module_progress are written
+    private static final String RECONCILE_XP_SQL = """
+        UPDATE gamifications g
+        LEFT JOIN (
+            SELECT user_email,
+                   COUNT(CASE WHEN progress = 100 THEN 1 END) * ?
+                 + COUNT(CASE WHEN quizPassed = true THEN 1 END) * ? AS xp
+            FROM module_progress
+            GROUP BY user_email
+        ) p ON p.user_email = g.user_email
+        SET g.xp_points = COALESCE(p.xp, 0),
+            g.current_level = COALESCE(p.xp, 0) DIV ? + 1
+        WHERE g.xp_points <> COALESCE(p.xp, 0)
+        """;
 
     @Override
     public Optional<Gamification> findByUserEmail(String userEmail) {
@@ -37,68 +59,44 @@ public class GamificationDaoHibernate implements GamificationDao {
     }
 
     @Override
-    public void syncUserProgress(String userEmail) {
-        // 1. READ-ONLY: Query module_progress to count achievements
-        String sql = """
-            SELECT 
-                COUNT(CASE WHEN progress = 100 THEN 1 END) as completed_modules,
-                COUNT(CASE WHEN quizPassed = true THEN 1 END) as passed_quizzes
-            FROM module_progress 
-            WHERE user_email = ?
-        """;
-        
-        Query query = em.createNativeQuery(sql);
-        query.setParameter(1, userEmail);
-        
-        Object[] results = (Object[]) query.getSingleResult();
-        int completedModules = ((Number) results[0]).intValue();
-        int passedQuizzes = ((Number) results[1]).intValue();
-
-        // 2. CALCULATE New State
-        int calculatedXp = (completedModules * POINTS_PER_MODULE) + (passedQuizzes * POINTS_PER_QUIZ);
-        int newLevel = (calculatedXp / 200) + 1;
-
-        // 3. WRITE Update to Gamifications Table
-        Gamification gamification = findByUserEmail(userEmail)
-                .orElse(new Gamification(userEmail));
+    public Gamification lockOrCreate(String userEmail) {
+        nativeUpdate(CREATE_ROW_SQL)
+            .setParameter(1, userEmail)
+            .executeUpdate();
+        return em.createQuery(
+            "SELECT g FROM Gamification g WHERE g.userEmail = :email", Gamification.class)
+            .setParameter("email", userEmail)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getSingleResult();
+    }
 
-        gamification.setXpPoints(calculatedXp);
-        gamification.setCurrentLevel(newLevel);
-        
-        updateStreak(gamification);
-        
-        if (gamification.getId() == null) {
-            em.persist(gamification);
-        } else {
-            em.merge(gamification);
-        }
+    @Override
+    public int reconcileXp() {
+        nativeUpdate(CREATE_MISSING_ROWS_SQL).executeUpdate();
+        return nativeUpdate(RECONCILE_XP_SQL)
+            .setParameter(1, Gamification.POINTS_PER_MODULE)
+            .setParameter(2, Gamification.POINTS_PER_QUIZ)
+            .setParameter(3, Gamification.XP_PER_LEVEL)
+            .executeUpdate();
     }
 
     @Override
-    public List<Gamification> getLeaderboard(int limit) {
-        return em.createQuery(
-            "SELECT g FROM Gamification g ORDER BY g.xpPoints DESC", Gamification.class)
-            .setMaxResults(limit)
+    public Map<String, Integer> findAllXp() {
+        List<Object[]> rows = em.createQuery(
+            "SELECT g.userEmail, g.xpPoints FROM Gamification g", Object[].class)
             .getResultList();
-    }
 
-    private void updateStreak(Gamification g) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime last = g.getLastActivity();
-        
-        if (last == null) {
-            g.setDailyStreak(1);
-        } else {
-            long daysBetween = ChronoUnit.DAYS.between(last.toLocalDate(), now.toLocalDate());
-            if (daysBetween == 1) {
-                g.setDailyStreak(g.getDailyStreak() + 1);
-            } else if (daysBetween > 1) {
-                g.setDailyStreak(1); // Reset if missed a day
-            }
-            else if (daysBetween == 0 && g.getDailyStreak() == 0) {
-                g.setDailyStreak(1); // Fixes the "stuck at 0" issue if initialized today
-            }
+        Map<String, Integer> xpByUser = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            xpByUser.put((String) row[0], (Integer) row[1]);
         }
-        g.setLastActivity(now);
+        return xpByUser;
+    }
+
+    // Without a synchronized entity Hibernate would evict every second-level cache region
+    private NativeQuery<?> nativeUpdate(String sql) {
+        return em.createNativeQuery(sql)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(Gamification.class);
     }
-}
\ No newline at end of file
+}
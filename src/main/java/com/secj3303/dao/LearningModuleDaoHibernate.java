@@ -6,10 +6,14 @@ import java.util.Optional;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.secj3303.config.ReferenceDataCache;
 import com.secj3303.model.LearningModule;
+import com.secj3303.model.QuizQuestion;
 
 @Repository
 @Transactional
@@ -39,8 +43,11 @@ public class LearningModuleDaoHibernate implements LearningModuleDao {
             LearningModule.class
         )
         .setParameter("id", id)
+        .setHint(QueryHints.HINT_CACHEABLE, true)
+        .setHint(QueryHints.HINT_CACHE_REGION, ReferenceDataCache.LEARNING_QUERY_REGION)
         .getResultList();
 
+        result.forEach(this::initializeDetails);
         return result.stream().findFirst();
     }
 
@@ -50,7 +57,7 @@ public class LearningModuleDaoHibernate implements LearningModuleDao {
     @Override
     public List<LearningModule> findAllWithLessonsAndQuiz() {
 
-        return em.createQuery(
+        List<LearningModule> modules = em.createQuery(
             "SELECT DISTINCT m " +
             "FROM LearningModule m " +
             "LEFT JOIN FETCH m.lessons " +
@@ -58,7 +65,26 @@ public class LearningModuleDaoHibernate implements LearningModuleDao {
             "LEFT JOIN FETCH q.options " +     // ✅ SAFE with DISTINCT
             "ORDER BY m.id",
             LearningModule.class
-        ).getResultList();
+        )
+        .setHint(QueryHints.HINT_CACHEABLE, true)
+        .setHint(QueryHints.HINT_CACHE_REGION, ReferenceDataCache.LEARNING_QUERY_REGION)
+        .getResultList();
+
+        modules.forEach(this::initializeDetails);
+        return modules;
+    }
+
+    // =====================================================
+    // A query cache hit returns module ids only, so the fetch
+    // joins above do not run. Initialize the collections here
+    // (served from the collection cache) before the session closes.
+    // =====================================================
+    private void initializeDetails(LearningModule module) {
+        Hibernate.initialize(module.getLessons());
+        Hibernate.initialize(module.getQuizzes());
+        for (QuizQuestion quiz : module.getQuizzes()) {
+            Hibernate.initialize(quiz.getOptions());
+        }
     }
 
     @Override
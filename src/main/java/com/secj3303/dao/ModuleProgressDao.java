@@ -1,6 +1,6 @@
 package com.secj3303.dao;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.secj3303.model.ModuleProgress;
@@ -12,5 +12,10 @@ public interface ModuleProgressDao {
             Long moduleId
     );
 
+    /**
+     * All progress rows of one user in a single query, keyed by module id.
+     */
+    Map<Long, ModuleProgress> findAllByUserEmail(String userEmail);
+
     void save(ModuleProgress progress);
 }
@@ -1,6 +1,8 @@
 package com.secj3303.dao;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.persistence.EntityManager;
@@ -36,6 +38,25 @@ public class ModuleProgressDaoHibernate implements ModuleProgressDao {
         return result.stream().findFirst();
     }
 
+    @Override
+    public Map<Long, ModuleProgress> findAllByUserEmail(String userEmail) {
+
+        // p.module.id reads the FK column, no join to learning_module
+        List<Object[]> rows = em.createQuery(
+                "SELECT p.module.id, p FROM ModuleProgress p " +
+                "WHERE p.userEmail = :email",
+                Object[].class
+        )
+        .setParameter("email", userEmail)
+        .getResultList();
+
+        Map<Long, ModuleProgress> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (ModuleProgress) row[1]);
+        }
+        return result;
+    }
+
     @Override
     public void save(ModuleProgress progress) {
         if (progress.getId() == null) {
@@ -30,6 +30,15 @@ public interface MoodEntryDao {
     // Find mood entries for a user from the last N days
     List<MoodEntry> findRecentByUsername(String username, int days);
     
+    // One page of a user's history, newest first, starting after (beforeDate, beforeId)
+    List<MoodEntry> findHistoryPage(String username, LocalDate beforeDate, Integer beforeId, int limit);
+    
+    // The user's latest entries, newest first
+    List<MoodEntry> findLatestByUsername(String username, int limit);
+    
+    // Distinct entry dates, newest first, for walking streaks a page at a time
+    List<LocalDate> findEntryDates(String username, int offset, int limit);
+    
     // Count total entries for a user
     long countByUsername(String username);
     
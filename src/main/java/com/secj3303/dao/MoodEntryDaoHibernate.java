@@ -85,6 +85,39 @@ public class MoodEntryDaoHibernate implements MoodEntryDao {
         return findByUsernameAndDateRange(username, startDate, endDate);
     }
     
+    @Override
+    public List<MoodEntry> findHistoryPage(String username, LocalDate beforeDate, Integer beforeId, int limit) {
+        String jpql = "SELECT m FROM MoodEntry m WHERE m.username = :username " +
+                     (beforeDate != null && beforeId != null
+                        ? "AND (m.entryDate < :beforeDate OR (m.entryDate = :beforeDate AND m.id < :beforeId)) "
+                        : "") +
+                     "ORDER BY m.entryDate DESC, m.id DESC";
+        TypedQuery<MoodEntry> query = entityManager.createQuery(jpql, MoodEntry.class);
+        query.setParameter("username", username);
+        if (beforeDate != null && beforeId != null) {
+            query.setParameter("beforeDate", beforeDate);
+            query.setParameter("beforeId", beforeId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+    
+    @Override
+    public List<MoodEntry> findLatestByUsername(String username, int limit) {
+        return findHistoryPage(username, null, null, limit);
+    }
+    
+    @Override
+    public List<LocalDate> findEntryDates(String username, int offset, int limit) {
+        String jpql = "SELECT DISTINCT m.entryDate FROM MoodEntry m WHERE m.username = :username " +
+                     "ORDER BY m.entryDate DESC";
+        TypedQuery<LocalDate> query = entityManager.createQuery(jpql, LocalDate.class);
+        query.setParameter("username", username);
+        query.setFirstResult(offset);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+    
     @Override
     public long countByUsername(String username) {
         String jpql = "SELECT COUNT(m) FROM MoodEntry m WHERE m.username = :username";
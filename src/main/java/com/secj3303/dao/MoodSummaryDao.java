@@ -0,0 +1,23 @@
+package com.secj3303.dao;
+
+import com.secj3303.model.MoodSummary;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+public interface MoodSummaryDao {
+    // Read a user's summary without locking it
+    Optional<MoodSummary> findByUsername(String username);
+
+    // Load a user's summary for update, creating an empty one first if needed
+    MoodSummary lockOrCreate(String username);
+
+    // Remove a user's summary once their last entry is gone
+    void delete(MoodSummary summary);
+
+    // Add delta to the count for one user, week and mood
+    void addWeeklyCount(String username, LocalDate weekStart, String mood, int delta);
+
+    // Mood id -> entry count for one user and week
+    Map<String, Integer> findWeeklyCounts(String username, LocalDate weekStart);
+}
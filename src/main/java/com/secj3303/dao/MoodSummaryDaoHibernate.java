@@ -0,0 +1,92 @@
+package com.secj3303.dao;
+
+import com.secj3303.model.MoodSummary;
+import com.secj3303.model.MoodWeeklyRollup;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class MoodSummaryDaoHibernate implements MoodSummaryDao {
+
+    // Concurrent first entries for the same user both succeed, one insert is ignored
+    private static final String CREATE_SUMMARY_SQL =
+        "INSERT IGNORE INTO mood_user_summary (username, total_entries, streak_length) VALUES (?, 0, 0)";
+
+    private static final String ADD_WEEKLY_COUNT_SQL =
+        "INSERT INTO mood_weekly_rollup (username, week_start, mood_type, entry_count) VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE entry_count = entry_count + VALUES(entry_count)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<MoodSummary> findByUsername(String username) {
+        return Optional.ofNullable(entityManager.find(MoodSummary.class, username));
+    }
+
+    @Override
+    public MoodSummary lockOrCreate(String username) {
+        nativeUpdate(CREATE_SUMMARY_SQL, MoodSummary.class)
+                .setParameter(1, username)
+                .executeUpdate();
+        return entityManager.find(MoodSummary.class, username, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    @Override
+    public void delete(MoodSummary summary) {
+        entityManager.remove(summary);
+    }
+
+    @Override
+    public void addWeeklyCount(String username, LocalDate weekStart, String mood, int delta) {
+        nativeUpdate(ADD_WEEKLY_COUNT_SQL, MoodWeeklyRollup.class)
+                .setParameter(1, username)
+                .setParameter(2, weekStart)
+                .setParameter(3, mood)
+                .setParameter(4, delta)
+                .executeUpdate();
+
+        if (delta < 0) {
+            entityManager.createQuery("DELETE FROM MoodWeeklyRollup r WHERE r.username = :username " +
+                                      "AND r.weekStart = :weekStart AND r.mood = :mood AND r.entryCount <= 0")
+                    .setParameter("username", username)
+                    .setParameter("weekStart", weekStart)
+                    .setParameter("mood", mood)
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public Map<String, Integer> findWeeklyCounts(String username, LocalDate weekStart) {
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT r.mood, r.entryCount FROM MoodWeeklyRollup r " +
+                "WHERE r.username = :username AND r.weekStart = :weekStart", Object[].class)
+                .setParameter("username", username)
+                .setParameter("weekStart", weekStart)
+                .getResultList();
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], (Integer) row[1]);
+        }
+        return counts;
+    }
+
+    // Without a synchronized entity Hibernate would evict every second-level cache region
+    private NativeQuery<?> nativeUpdate(String sql, Class<?> entityClass) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(entityClass);
+    }
+}
@@ -1,16 +1,46 @@
 package com.secj3303.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import com.secj3303.model.Post;
 
 public interface PostDao {
     List<Post> findAll();
-    List<Post> findByCategory(String category);
     Post findById(int id);
+
+    /**
+     * Row-locks the post for the rest of the transaction, without its replies.
+     * Returns null if it does not exist (or was deleted while waiting for the lock).
+     */
+    Post lockById(int id);
+
     int save(Post post);
     void update(Post post);
     void delete(int id);
-    int countByCategory(String category);
-    List<Post> findAllOrderByLikesDesc();
-}
\ No newline at end of file
+    long countAll();
+
+    /**
+     * One page of the "all" feed ordered by (likes, id) descending.
+     * Pass null cursors for the first page. Replies are not loaded;
+     * use Post.getReplyCount() for the count.
+     */
+    List<Post> findFeedPage(Integer beforeLikes, Integer beforeId, int limit);
+
+    /**
+     * One page of a single category ordered by id descending.
+     */
+    List<Post> findCategoryPage(String category, Integer beforeId, int limit);
+
+    void incrementReplyCount(int postId, int delta);
+
+    /**
+     * Recomputes reply_count for every post in one UPDATE.
+     */
+    int recountReplies();
+
+    /**
+     * Adds buffered like counts (id -> delta) in one JDBC batch.
+     */
+    void addLikes(Map<Integer, Long> deltas);
+}
@@ -1,11 +1,15 @@
 package com.secj3303.dao;
 
+import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,23 +19,17 @@ import com.secj3303.model.Post;
 @Transactional
 public class PostDaoImpl implements PostDao {
 
+    private static final String ADD_LIKES_SQL = "UPDATE forum_posts SET likes = likes + ? WHERE id = ?";
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public List<Post> findAll() {
-        String jpql = "SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.replies ORDER BY p.id DESC";
+        String jpql = "SELECT p FROM Post p ORDER BY p.id DESC";
         return entityManager.createQuery(jpql, Post.class).getResultList();
     }
 
-    @Override
-    public List<Post> findByCategory(String category) {
-        String jpql = "SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.replies WHERE p.category = :category ORDER BY p.id DESC";
-        TypedQuery<Post> query = entityManager.createQuery(jpql, Post.class);
-        query.setParameter("category", category);
-        return query.getResultList();
-    }
-
     @Override
     public Post findById(int id) {
         String jpql = "SELECT p FROM Post p LEFT JOIN FETCH p.replies WHERE p.id = :id";
@@ -40,6 +38,11 @@ public class PostDaoImpl implements PostDao {
         return query.getSingleResult();
     }
 
+    @Override
+    public Post lockById(int id) {
+        return entityManager.find(Post.class, id, LockModeType.PESSIMISTIC_WRITE);
+    }
+
     @Override
     public int save(Post post) {
         entityManager.persist(post);
@@ -60,16 +63,66 @@ public class PostDaoImpl implements PostDao {
     }
 
     @Override
-    public int countByCategory(String category) {
-        String jpql = "SELECT COUNT(p) FROM Post p WHERE p.category = :category";
-        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+    public long countAll() {
+        return entityManager.createQuery("SELECT COUNT(p) FROM Post p", Long.class).getSingleResult();
+    }
+
+    @Override
+    public List<Post> findFeedPage(Integer beforeLikes, Integer beforeId, int limit) {
+        boolean firstPage = beforeLikes == null || beforeId == null;
+        String jpql = "SELECT p FROM Post p "
+                + (firstPage ? "" : "WHERE p.likes < :likes OR (p.likes = :likes AND p.id < :id) ")
+                + "ORDER BY p.likes DESC, p.id DESC";
+        TypedQuery<Post> query = entityManager.createQuery(jpql, Post.class);
+        if (!firstPage) {
+            query.setParameter("likes", beforeLikes);
+            query.setParameter("id", beforeId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Post> findCategoryPage(String category, Integer beforeId, int limit) {
+        String jpql = "SELECT p FROM Post p WHERE p.category = :category "
+                + (beforeId == null ? "" : "AND p.id < :id ")
+                + "ORDER BY p.id DESC";
+        TypedQuery<Post> query = entityManager.createQuery(jpql, Post.class);
         query.setParameter("category", category);
-        return query.getSingleResult().intValue();
+        if (beforeId != null) {
+            query.setParameter("id", beforeId);
+        }
+        return query.setMaxResults(limit).getResultList();
     }
 
     @Override
-    public List<Post> findAllOrderByLikesDesc() {
-        String jpql = "SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.replies ORDER BY p.likes DESC, p.id DESC";
-        return entityManager.createQuery(jpql, Post.class).getResultList();
+    public void incrementReplyCount(int postId, int delta) {
+        entityManager.createQuery("UPDATE Post p SET p.replyCount = p.replyCount + :delta WHERE p.id = :id")
+                .setParameter("delta", delta)
+                .setParameter("id", postId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int recountReplies() {
+        return entityManager.createQuery(
+                "UPDATE Post p SET p.replyCount = (SELECT COUNT(r) FROM Reply r WHERE r.post = p)")
+                .executeUpdate();
+    }
+
+    @Override
+    public void addLikes(Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ADD_LIKES_SQL)) {
+                for (Map.Entry<Integer, Long> entry : deltas.entrySet()) {
+                    ps.setLong(1, entry.getValue());
+                    ps.setInt(2, entry.getKey());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.secj3303.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import com.secj3303.model.Reply;
 
@@ -10,4 +11,9 @@ public interface ReplyDao {
     int save(Reply reply);
     void update(Reply reply);
     void delete(int id);
-}
\ No newline at end of file
+
+    /**
+     * Adds buffered like counts (id -> delta) in one JDBC batch.
+     */
+    void addLikes(Map<Integer, Long> deltas);
+}
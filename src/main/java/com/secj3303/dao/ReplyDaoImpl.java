@@ -1,11 +1,14 @@
 package com.secj3303.dao;
 
+import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,8 @@ import com.secj3303.model.Reply;
 @Transactional
 public class ReplyDaoImpl implements ReplyDao {
 
+    private static final String ADD_LIKES_SQL = "UPDATE forum_replies SET likes = likes + ? WHERE id = ?";
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -49,4 +54,21 @@ public class ReplyDaoImpl implements ReplyDao {
             entityManager.remove(reply);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addLikes(Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ADD_LIKES_SQL)) {
+                for (Map.Entry<Integer, Long> entry : deltas.entrySet()) {
+                    ps.setLong(1, entry.getValue());
+                    ps.setInt(2, entry.getKey());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+}
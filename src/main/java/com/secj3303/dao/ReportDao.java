@@ -2,6 +2,7 @@ package com.secj3303.dao;
 import java.util.List;
 
 import com.secj3303.model.Report;
+import com.secj3303.model.ReportedPost;
 
 public interface ReportDao {
     int save(Report report);
@@ -10,4 +11,22 @@ public interface ReportDao {
     List<Report> findAll();
     void delete(int id);
     void deleteByPostId(int postId);
+
+    /**
+     * One row per reported post, newest report first, with the post summary
+     * and report count. Continues after the report id beforeReportId
+     * (null for the first page). Reports on deleted posts are skipped.
+     */
+    List<ReportedPost> findReportedPosts(Integer beforeReportId, int limit);
+
+    /**
+     * Number of distinct reported posts, counting no further than limit, so
+     * the cost follows the limit rather than the report backlog.
+     */
+    int countReportedPosts(int limit);
+
+    /**
+     * Removes reports whose post no longer exists.
+     */
+    int deleteOrphans();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.secj3303.dao;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -9,7 +11,9 @@ import javax.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.secj3303.model.Post;
 import com.secj3303.model.Report;
+import com.secj3303.model.ReportedPost;
 
 @Repository
 @Transactional
@@ -52,4 +56,55 @@ public class ReportDaoImpl implements ReportDao {
         String jpql = "DELETE FROM Report r WHERE r.postId = :postId";
         entityManager.createQuery(jpql).setParameter("postId", postId).executeUpdate();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<ReportedPost> findReportedPosts(Integer beforeReportId, int limit) {
+        // The latest report of each post, joined to its post; both subqueries use idx_report_post_id
+        String jpql = "SELECT r.id, r.reason, r.details, r.reportedAt, "
+                + "p.id, p.title, p.author, p.time, p.category, p.content, "
+                + "(SELECT COUNT(r2) FROM Report r2 WHERE r2.postId = r.postId) "
+                + "FROM Report r, Post p "
+                + "WHERE p.id = r.postId "
+                + "AND r.id = (SELECT MAX(r3.id) FROM Report r3 WHERE r3.postId = r.postId) "
+                + (beforeReportId == null ? "" : "AND r.id < :beforeId ")
+                + "ORDER BY r.id DESC";
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        if (beforeReportId != null) {
+            query.setParameter("beforeId", beforeReportId);
+        }
+
+        List<ReportedPost> rows = new ArrayList<>();
+        for (Object[] row : query.setMaxResults(limit).getResultList()) {
+            Report report = new Report((Integer) row[4], (String) row[1], (String) row[2]);
+            report.setId((Integer) row[0]);
+            report.setReportedAt((LocalDateTime) row[3]);
+
+            Post post = new Post();
+            post.setId((Integer) row[4]);
+            post.setTitle((String) row[5]);
+            post.setAuthor((String) row[6]);
+            post.setTime((String) row[7]);
+            post.setCategory((String) row[8]);
+            post.setContent((String) row[9]);
+
+            rows.add(new ReportedPost(report, post, (Long) row[10]));
+        }
+        return rows;
+    }
+
+    @Override
+    public int countReportedPosts(int limit) {
+        // Stops after limit post ids instead of counting the whole backlog
+        String jpql = "SELECT DISTINCT r.postId FROM Report r, Post p WHERE p.id = r.postId";
+        return entityManager.createQuery(jpql, Integer.class)
+                .setMaxResults(limit)
+                .getResultList()
+                .size();
+    }
+
+    @Override
+    public int deleteOrphans() {
+        String jpql = "DELETE FROM Report r WHERE NOT EXISTS (SELECT p.id FROM Post p WHERE p.id = r.postId)";
+        return entityManager.createQuery(jpql).executeUpdate();
+    }
+}
@@ -1,7 +1,9 @@
 package com.secj3303.dao;
 
 import com.secj3303.model.Student;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface StudentDao extends GenericDao<Student> {
@@ -11,4 +13,16 @@ public interface StudentDao extends GenericDao<Student> {
     List<Student> findByDepartment(String department);
     List<Student> findByYear(String year);
     List<Student> findWithAssessmentCount();
+
+    /**
+     * Students with assessment count, last assessment date and latest severity
+     * (as riskLevel) in one query. search/risk are optional filters (null = all).
+     */
+    List<Student> findWithAssessmentSummary(String search, String risk);
+
+    /**
+     * Resolves student names for keys that may be either a studentId or an email,
+     * in one IN-list query. Keys with no matching student map to null.
+     */
+    Map<String, String> findNamesByStudentIdsOrEmails(Collection<String> keys);
 }
\ No newline at end of file
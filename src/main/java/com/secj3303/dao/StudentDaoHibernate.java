@@ -4,20 +4,39 @@ import com.secj3303.dao.StudentDao;
 import com.secj3303.model.Student;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @Transactional
 public class StudentDaoHibernate implements StudentDao {
     
+    private static final int NAME_CACHE_SIZE = 2000;
+    
     @PersistenceContext
     private EntityManager entityManager;
     
+    // LRU cache of studentId/email -> name, cleared per student on every write below
+    // and again after it commits; unknown keys are not cached
+    private final Map<String, CachedName> nameCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedName> eldest) {
+            return size() > NAME_CACHE_SIZE;
+        }
+    };
+    
     @Override
     public Optional<Student> findById(Integer id) {
         return Optional.ofNullable(entityManager.find(Student.class, id));
@@ -33,6 +52,7 @@ public class StudentDaoHibernate implements StudentDao {
     @Override
     @Transactional
     public Student save(Student student) {
+        evictName(student);
         if (student.getId() == null) {
             entityManager.persist(student);
             return student;
@@ -44,6 +64,7 @@ public class StudentDaoHibernate implements StudentDao {
     @Override
     @Transactional
     public Student update(Student student) {
+        evictName(student);
         return entityManager.merge(student);
     }
     
@@ -52,6 +73,7 @@ public class StudentDaoHibernate implements StudentDao {
     public void delete(Integer id) {
         Student student = entityManager.find(Student.class, id);
         if (student != null) {
+            evictName(student);
             entityManager.remove(student);
         }
     }
@@ -59,6 +81,7 @@ public class StudentDaoHibernate implements StudentDao {
     @Override
     @Transactional
     public void delete(Student student) {
+        evictName(student);
         entityManager.remove(entityManager.contains(student) ? student : entityManager.merge(student));
     }
     
@@ -112,25 +135,142 @@ public class StudentDaoHibernate implements StudentDao {
     
     @Override
     public List<Student> findWithAssessmentCount() {
-        TypedQuery<Object[]> query = entityManager.createQuery(
+        return findWithAssessmentSummary(null, null);
+    }
+    
+    @Override
+    public List<Student> findWithAssessmentSummary(String search, String risk) {
+        // "latest" joins every result of the student, the WHERE keeps only the newest one
+        // (or the single null row for students without results)
+        StringBuilder jpql = new StringBuilder(
             "SELECT s, " +
             "(SELECT COUNT(ar) FROM AssessmentResult ar WHERE ar.student = s), " +
-            "(SELECT MAX(ar.date) FROM AssessmentResult ar WHERE ar.student = s) " +
-            "FROM Student s", Object[].class);
+            "latest.date, latest.severity " +
+            "FROM Student s " +
+            "LEFT JOIN AssessmentResult latest ON latest.student = s " +
+            "WHERE (latest.id IS NULL OR latest.id = " +
+            "(SELECT MAX(ar2.id) FROM AssessmentResult ar2 WHERE ar2.student = s))");
+        Map<String, Object> parameters = new HashMap<>();
         
-        List<Object[]> results = query.getResultList();
-        List<Student> students = new java.util.ArrayList<>();
+        if (search != null && !search.trim().isEmpty()) {
+            jpql.append(" AND (LOWER(s.name) LIKE :search OR LOWER(s.email) LIKE :search OR s.studentId LIKE :search)");
+            parameters.put("search", "%" + search.toLowerCase() + "%");
+        }
+        
+        if (risk != null && !"all".equals(risk)) {
+            jpql.append(" AND LOWER(s.riskLevel) = :risk");
+            parameters.put("risk", risk.toLowerCase());
+        }
+        
+        jpql.append(" ORDER BY s.name");
         
-        for (Object[] row : results) {
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            query.setParameter(entry.getKey(), entry.getValue());
+        }
+        
+        List<Student> students = new java.util.ArrayList<>();
+        for (Object[] row : query.getResultList()) {
             Student student = (Student) row[0];
             Long assessmentCount = (Long) row[1];
             String lastAssessment = (String) row[2];
+            String latestSeverity = (String) row[3];
             
             student.setAssessmentCount(assessmentCount != null ? assessmentCount.intValue() : 0);
-            student.setLastAssessment(lastAssessment);
+            if (lastAssessment != null) {
+                student.setLastAssessment(lastAssessment);
+            }
+            if (latestSeverity != null) {
+                student.setRiskLevel(latestSeverity.toLowerCase());
+            }
             students.add(student);
         }
         
         return students;
     }
+    
+    @Override
+    public Map<String, String> findNamesByStudentIdsOrEmails(Collection<String> keys) {
+        Map<String, String> names = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        
+        synchronized (nameCache) {
+            for (String key : keys) {
+                if (key == null || names.containsKey(key)) continue;
+                CachedName cached = nameCache.get(key);
+                if (cached != null) {
+                    names.put(key, cached.name);
+                } else {
+                    misses.add(key);
+                }
+            }
+        }
+        
+        if (misses.isEmpty()) {
+            return names;
+        }
+        
+        List<Object[]> rows = entityManager.createQuery(
+            "SELECT s.id, s.studentId, s.email, s.name FROM Student s " +
+            "WHERE s.studentId IN :keys OR s.email IN :keys", Object[].class)
+            .setParameter("keys", misses)
+            .getResultList();
+        
+        Map<String, CachedName> byStudentId = new HashMap<>();
+        Map<String, CachedName> byEmail = new HashMap<>();
+        for (Object[] row : rows) {
+            CachedName name = new CachedName((Integer) row[0], (String) row[3]);
+            if (row[1] != null) byStudentId.put((String) row[1], name);
+            if (row[2] != null) byEmail.put((String) row[2], name);
+        }
+        
+        synchronized (nameCache) {
+            for (String key : misses) {
+                // studentId wins over email, as in the old per-student lookup
+                CachedName resolved = byStudentId.getOrDefault(key, byEmail.get(key));
+                if (resolved == null) {
+                    // A student added later (or by another instance) must be found
+                    names.put(key, null);
+                    continue;
+                }
+                nameCache.put(key, resolved);
+                names.put(key, resolved.name);
+            }
+        }
+        return names;
+    }
+    
+    private void evictName(Student student) {
+        removeCachedName(student);
+        // A read before the commit could cache the old name again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeCachedName(student);
+                }
+            });
+        }
+    }
+    
+    private void removeCachedName(Student student) {
+        synchronized (nameCache) {
+            nameCache.remove(student.getStudentId());
+            nameCache.remove(student.getEmail());
+            // entries cached under an old studentId/email of the same student
+            if (student.getId() != null) {
+                nameCache.values().removeIf(cached -> student.getId().equals(cached.id));
+            }
+        }
+    }
+    
+    private static final class CachedName {
+        final Integer id;
+        final String name;
+        
+        CachedName(Integer id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
 }
\ No newline at end of file
@@ -5,7 +5,6 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 // --- POJOs matching TSX interfaces ---
 
@@ -119,26 +118,4 @@ public class AdminData implements Serializable {
     public static final List<String> CATEGORIES = Arrays.asList(
         "Mental Health Basics", "Coping Strategies", "Wellness", "Crisis Management", "Self-Care"
     );
-
-    public static final List<Map<String, String>> SYSTEM_STATS = Arrays.asList(
-        Map.of("label", "Total Students", "value", "1,247", "change", "+12%", "icon", "users", "color", "blue"),
-        Map.of("label", "Active Engagements", "value", "892", "change", "+8%", "icon", "activity", "color", "green"),
-        Map.of("label", "Modules Completed", "value", "3,456", "change", "+15%", "icon", "book-open", "color", "purple"),
-        Map.of("label", "Avg. Progress", "value", "67%", "change", "+5%", "icon", "trending-up", "color", "orange")
-    );
-    
-    public static final List<Map<String, String>> RECENT_ACTIVITY = Arrays.asList(
-        Map.of("user", "Student #1234", "action", "Completed Stress Management Module", "time", "5 min ago", "status", "success"),
-        Map.of("user", "Faculty #567", "action", "Created new forum discussion", "time", "12 min ago", "status", "info"),
-        Map.of("user", "Student #891", "action", "Booked counselling session", "time", "23 min ago", "status", "success"),
-        Map.of("user", "Student #234", "action", "Reported inappropriate content", "time", "45 min ago", "status", "warning"),
-        Map.of("user", "Counsellor #12", "action", "Completed session notes", "time", "1 hour ago", "status", "info")
-    );
-
-    public static final List<Map<String, String>> ANALYTICS_DATA = Arrays.asList(
-        Map.of("metric", "Daily Active Users", "value", "432", "trend", "up"),
-        Map.of("metric", "Average Session Time", "value", "24 min", "trend", "up"),
-        Map.of("metric", "Forum Posts (Weekly)", "value", "89", "trend", "down"),
-        Map.of("metric", "Counselling Bookings", "value", "156", "trend", "up")
-    );
 }
\ No newline at end of file
@@ -5,7 +5,13 @@ import java.io.Serializable;
 import java.util.Map;
 
 @Entity
-@Table(name = "assessment_answers")
+@Table(
+    name = "assessment_answers",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_answer_student_assessment_question",
+        columnNames = {"student_id", "assessment_id", "question_id"}
+    )
+)
 public class AssessmentAnswer implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
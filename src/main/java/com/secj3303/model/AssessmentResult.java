@@ -2,10 +2,13 @@ package com.secj3303.model;
 
 import javax.persistence.*;
 import java.io.Serializable;
-import java.util.Date;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "assessment_results")
+@Table(
+    name = "assessment_results",
+    indexes = @Index(name = "idx_result_student_submitted", columnList = "student_id, submitted_at")
+)
 public class AssessmentResult implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -14,9 +17,13 @@ public class AssessmentResult implements Serializable {
     @Column(name = "assessment_title", nullable = false)
     private String assessmentTitle;
     
+    // Display string ("MMM d, yyyy"); sort and paginate on submittedAt
     @Column(nullable = false)
     private String date;
     
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+    
     @Column(nullable = false)
     private Integer score;
     
@@ -57,6 +64,9 @@ public class AssessmentResult implements Serializable {
     public String getDate() { return date; }
     public void setDate(String date) { this.date = date; }
     
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+    
     public Integer getScore() { return score; }
     public void setScore(Integer score) { this.score = score; }
     
@@ -0,0 +1,67 @@
+package com.secj3303.model;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * One stored AI coach chat message. The sender is kept as a flag rather
+ * than a string, and rows are read newest first by (username, id).
+ */
+@Entity
+@Table(name = "coach_messages", indexes = {
+    @Index(name = "idx_coach_user_id", columnList = "username, id")
+})
+public class CoachMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "username", nullable = false, length = 100)
+    private String username;
+
+    @Column(name = "from_user", nullable = false)
+    private boolean fromUser;
+
+    @Column(name = "text", nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CoachMessage() {}
+
+    public CoachMessage(String username, Message message) {
+        this.username = username;
+        this.fromUser = message.isUser();
+        this.text = message.getText();
+        this.createdAt = message.getTimestamp();
+    }
+
+    public Message toMessage() {
+        return new Message(id, text, fromUser ? "user" : "ai", createdAt);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public boolean isFromUser() { return fromUser; }
+    public void setFromUser(boolean fromUser) { this.fromUser = fromUser; }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
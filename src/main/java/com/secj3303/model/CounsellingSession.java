@@ -14,6 +14,12 @@ import java.time.format.DateTimeFormatter;
            @Index(name = "idx_session_status", columnList = "status"),
            @Index(name = "idx_counsellor_date", columnList = "counsellor_id, date"),
            @Index(name = "idx_student_date", columnList = "student_id, date")
+       },
+       uniqueConstraints = {
+           // active_slot is NULL for cancelled sessions and NULLs never collide,
+           // so this only stops two active sessions sharing a slot
+           @UniqueConstraint(name = "uk_session_active_slot",
+                             columnNames = {"counsellor_id", "date", "startTime", "active_slot"})
        })
 public class CounsellingSession implements Serializable {
 
@@ -100,6 +106,10 @@ public class CounsellingSession implements Serializable {
     @Column(name = "report_content", length = 2000)
     private String reportContent;
 
+    // TRUE while the session holds its slot, NULL once cancelled (see uk_session_active_slot)
+    @Column(name = "active_slot")
+    private Boolean activeSlot;
+
     // Transient fields for student display (not stored in DB)
     @Transient
     private String studentName;
@@ -133,6 +143,15 @@ public class CounsellingSession implements Serializable {
         this.reportContent = reportContent;
     }
 
+    // =====================
+    // JPA LIFECYCLE
+    // =====================
+    @PrePersist
+    @PreUpdate
+    public void syncActiveSlot() {
+        this.activeSlot = status == SessionStatus.CANCELLED ? null : Boolean.TRUE;
+    }
+
     // Getters & Setters
     public Integer getId() { return id; }
     public void setId(Integer id) { this.id = id; }
@@ -0,0 +1,66 @@
+package com.secj3303.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * One user's like on a post or reply. The unique constraint is what
+ * stops a user from liking the same target twice; it leads with the
+ * target so lookups and deletes by post or reply use it too.
+ */
+@Entity
+@Table(name = "forum_likes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_like_user_target", columnNames = {"target_type", "target_id", "user_email"})
+}, indexes = {
+    @Index(name = "idx_like_user", columnList = "user_email")
+})
+public class ForumLike {
+
+    public static final String TYPE_POST = "POST";
+    public static final String TYPE_REPLY = "REPLY";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(name = "target_type", nullable = false, length = 10)
+    private String targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private int targetId;
+
+    public ForumLike() {}
+
+    public ForumLike(String userEmail, String targetType, int targetId) {
+        this.userEmail = userEmail;
+        this.targetType = targetType;
+        this.targetId = targetId;
+    }
+
+    // Key used by the in-memory dedup set, e.g. "POST:12"
+    public static String key(String targetType, int targetId) {
+        return targetType + ":" + targetId;
+    }
+
+    // Getters and Setters
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+
+    public String getTargetType() { return targetType; }
+    public void setTargetType(String targetType) { this.targetType = targetType; }
+
+    public int getTargetId() { return targetId; }
+    public void setTargetId(int targetId) { this.targetId = targetId; }
+}
@@ -1,7 +1,9 @@
 package com.secj3303.model;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 
@@ -17,6 +19,10 @@ import javax.persistence.Transient;
 @Table(name = "gamifications")
 public class Gamification {
 
+    public static final int POINTS_PER_MODULE = 100;
+    public static final int POINTS_PER_QUIZ = 50;
+    public static final int XP_PER_LEVEL = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -49,6 +55,45 @@ public class Gamification {
         this.lastActivity = null;
     }
 
+    // ==========================================
+    // XP & STREAK
+    // ==========================================
+
+    public static int levelForXp(int xp) {
+        return (xp / XP_PER_LEVEL) + 1;
+    }
+
+    public void addXp(int points) {
+        this.xpPoints = Math.max(0, this.xpPoints + points);
+        this.currentLevel = levelForXp(this.xpPoints);
+    }
+
+    /**
+     * Counts one day of learning activity: the streak grows on the day
+     * after the last activity and restarts after a missed day.
+     */
+    public void recordActivity(LocalDateTime now) {
+        if (lastActivity == null) {
+            dailyStreak = 1;
+        } else {
+            long daysBetween = ChronoUnit.DAYS.between(lastActivity.toLocalDate(), now.toLocalDate());
+            if (daysBetween == 1) {
+                dailyStreak++;
+            } else if (daysBetween > 1 || dailyStreak == 0) {
+                dailyStreak = 1;
+            }
+        }
+        lastActivity = now;
+    }
+
+    // The stored streak only counts while the last activity was today or yesterday
+    public int getCurrentStreak(LocalDate today) {
+        if (lastActivity == null || lastActivity.toLocalDate().isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return dailyStreak;
+    }
+
     // ==========================================
     // INNER CLASSES (For UI / Display)
     // ==========================================
@@ -0,0 +1,35 @@
+package com.secj3303.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. The next page starts after getLast(),
+ * so callers build the cursor from the sort columns of that item.
+ */
+public class KeysetPage<T> {
+
+    private final List<T> items;
+    private final boolean hasMore;
+
+    public KeysetPage(List<T> items, boolean hasMore) {
+        this.items = items;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Builds a page from a query run with limit pageSize + 1;
+     * the extra row only signals that another page exists.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        return new KeysetPage<>(hasMore ? rows.subList(0, pageSize) : rows, hasMore);
+    }
+
+    public List<T> getItems() { return items; }
+
+    public boolean isHasMore() { return hasMore; }
+
+    public boolean isEmpty() { return items.isEmpty(); }
+
+    public T getLast() { return items.isEmpty() ? null : items.get(items.size() - 1); }
+}
@@ -0,0 +1,188 @@
+package com.secj3303.model;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Case-insensitive multi-keyword search (Aho-Corasick), compiled once from
+ * a category -> keywords map. findAll reads each character of the text
+ * exactly once, however many keywords there are.
+ *
+ * The automaton is stored as a dense transition table over the characters
+ * that occur in the keywords; every other character sends the search back
+ * to the root, so no failure links are followed while scanning.
+ */
+public final class KeywordMatcher {
+
+    // A keyword occurrence; start is inclusive, end exclusive, both in the original text
+    public static class Match implements Serializable {
+        public final String category;
+        public final String keyword;
+        public final int start;
+        public final int end;
+
+        public Match(String category, String keyword, int start, int end) {
+            this.category = category;
+            this.keyword = keyword;
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getCategory() { return category; }
+        public String getKeyword() { return keyword; }
+        public int getStart() { return start; }
+        public int getEnd() { return end; }
+
+        @Override
+        public String toString() {
+            return category + ":" + keyword + "@" + start;
+        }
+    }
+
+    private final String[] categories;   // per keyword id
+    private final String[] keywords;     // per keyword id, lower case
+    private final char[] alphabet;       // char -> column, 0 for chars in no keyword
+    private final int columns;
+    private final int[] transitions;     // state * columns + column -> next state
+    private final int[][] outputs;       // state -> keyword ids ending there
+
+    private KeywordMatcher(String[] categories, String[] keywords, char[] alphabet, int columns,
+                           int[] transitions, int[][] outputs) {
+        this.categories = categories;
+        this.keywords = keywords;
+        this.alphabet = alphabet;
+        this.columns = columns;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    public static KeywordMatcher compile(Map<String, List<String>> keywordsByCategory) {
+        List<String> categoryList = new ArrayList<>();
+        List<String> keywordList = new ArrayList<>();
+        for (Map.Entry<String, List<String>> category : keywordsByCategory.entrySet()) {
+            for (String keyword : category.getValue()) {
+                if (keyword != null && !keyword.isEmpty()) {
+                    categoryList.add(category.getKey());
+                    keywordList.add(keyword.toLowerCase());
+                }
+            }
+        }
+
+        // 1. Columns for every distinct keyword character
+        char[] alphabet = new char[Character.MAX_VALUE + 1];
+        int columns = 1;
+        for (String keyword : keywordList) {
+            for (char c : keyword.toCharArray()) {
+                if (alphabet[c] == 0) {
+                    alphabet[c] = (char) columns++;
+                }
+            }
+        }
+
+        // 2. Trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(newRow(columns));
+        ends.add(new ArrayList<>());
+        for (int id = 0; id < keywordList.size(); id++) {
+            int state = 0;
+            for (char c : keywordList.get(id).toCharArray()) {
+                int column = alphabet[c];
+                if (trie.get(state)[column] < 0) {
+                    trie.get(state)[column] = trie.size();
+                    trie.add(newRow(columns));
+                    ends.add(new ArrayList<>());
+                }
+                state = trie.get(state)[column];
+            }
+            ends.get(state).add(id);
+        }
+
+        // 3. Breadth-first: fill missing transitions from the failure state
+        //    and inherit the outputs of shorter suffixes
+        int states = trie.size();
+        int[] transitions = new int[states * columns];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+
+        for (int column = 0; column < columns; column++) {
+            int next = trie.get(0)[column];
+            transitions[column] = next < 0 ? 0 : next;
+            if (next > 0) {
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            ends.get(state).addAll(ends.get(failure[state]));
+            for (int column = 0; column < columns; column++) {
+                int next = trie.get(state)[column];
+                int fallback = transitions[failure[state] * columns + column];
+                if (next < 0) {
+                    transitions[state * columns + column] = fallback;
+                } else {
+                    transitions[state * columns + column] = next;
+                    failure[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+
+        int[][] outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            outputs[state] = ends.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new KeywordMatcher(categoryList.toArray(new String[0]), keywordList.toArray(new String[0]),
+                                  alphabet, columns, transitions, outputs);
+    }
+
+    private static int[] newRow(int columns) {
+        int[] row = new int[columns];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    /**
+     * Every keyword occurrence in the text, ordered by where it ends.
+     */
+    public List<Match> findAll(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int column = alphabet[Character.toLowerCase(text.charAt(i))];
+            state = transitions[state * columns + column];
+            for (int id : outputs[state]) {
+                int length = keywords[id].length();
+                matches.add(new Match(categories[id], keywords[id], i + 1 - length, i + 1));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches grouped by category, categories in the order they were first found.
+     */
+    public Map<String, List<Match>> findByCategory(String text) {
+        Map<String, List<Match>> byCategory = new LinkedHashMap<>();
+        for (Match match : findAll(text)) {
+            byCategory.computeIfAbsent(match.category, k -> new ArrayList<>()).add(match);
+        }
+        return byCategory;
+    }
+
+    public int keywordCount() {
+        return keywords.length;
+    }
+}
@@ -3,6 +3,7 @@ package com.secj3303.model;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -15,8 +16,13 @@ import javax.persistence.OrderBy;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
 @Table(name = "learning_module")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
 public class LearningModule {
 
     // =========================
@@ -59,6 +65,7 @@ public class LearningModule {
         fetch = FetchType.LAZY
     )
     @OrderBy("id ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
     private Set<Lesson> lessons = new LinkedHashSet<>();
 
     /**
@@ -71,6 +78,7 @@ public class LearningModule {
         fetch = FetchType.LAZY
     )
     @OrderBy("id ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
     private Set<QuizQuestion> quizzes = new LinkedHashSet<>();
 
     // =========================
@@ -2,6 +2,7 @@ package com.secj3303.model;
 
 import java.util.Objects;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -13,8 +14,13 @@ import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
 @Table(name = "lesson")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
 public class Lesson {
 
     // =========================
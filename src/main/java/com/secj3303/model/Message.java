@@ -4,21 +4,32 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class Message implements Serializable {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
 
+    private final Long id; // null until stored
     private final String text;
     private final String sender; // 'user' or 'ai'
     private final LocalDateTime timestamp;
 
     public Message(String text, String sender) {
+        this(null, text, sender, LocalDateTime.now());
+    }
+
+    public Message(Long id, String text, String sender, LocalDateTime timestamp) {
+        this.id = id;
         this.text = text;
         this.sender = sender;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp;
     }
 
+    public Long getId() { return id; }
     public String getText() { return text; }
     public String getSender() { return sender; }
+    @JsonIgnore // clients use getFormattedTime
+    public LocalDateTime getTimestamp() { return timestamp; }
 
     public String getFormattedTime() {
         return timestamp.format(TIME_FORMATTER);
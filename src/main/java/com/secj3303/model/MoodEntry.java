@@ -9,7 +9,9 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "mood_entries")
+@Table(name = "mood_entries", indexes = {
+    @Index(name = "idx_mood_user_date", columnList = "username, entry_date")
+})
 public class MoodEntry {
     
     @Id
@@ -161,6 +163,35 @@ public class MoodEntry {
             }
         }
         
+        stats.put("last7Days", last7DaysEntries);
+        stats.put("totalEntriesLast7Days", last7DaysEntries.size());
+        putMostFrequentMood(stats, moodCounts);
+        
+        return stats;
+    }
+    
+    /**
+     * Same figures as getMoodStats, built from per-mood counts that were
+     * already aggregated (the weekly rollup) instead of from raw entries.
+     */
+    public static Map<String, Object> getWeeklyStats(Map<String, Integer> weeklyCounts) {
+        Map<String, Object> stats = new HashMap<>();
+        Map<String, Integer> moodCounts = new HashMap<>();
+        int total = 0;
+        
+        for (Map<String, String> moodDef : MOOD_DEFINITIONS) {
+            int count = weeklyCounts.getOrDefault(moodDef.get("id"), 0);
+            moodCounts.put(moodDef.get("id"), count);
+            total += count;
+        }
+        
+        stats.put("totalEntriesThisWeek", total);
+        putMostFrequentMood(stats, moodCounts);
+        
+        return stats;
+    }
+    
+    private static void putMostFrequentMood(Map<String, Object> stats, Map<String, Integer> moodCounts) {
         // Find most frequent mood
         String mostFrequentMoodId = "neutral";
         int mostFrequentCount = 0;
@@ -190,14 +221,10 @@ public class MoodEntry {
             );
         }
         
-        stats.put("last7Days", last7DaysEntries);
         stats.put("moodCounts", moodCounts);
         stats.put("mostFrequentMoodId", mostFrequentMoodId);
-        stats.put("totalEntriesLast7Days", last7DaysEntries.size());
         stats.put("mostFrequentCount", mostFrequentCount);
         stats.put("mostFrequentMoodData", mostFrequentMoodData);
-        
-        return stats;
     }
     
     // Calculate current streak
@@ -207,10 +234,11 @@ public class MoodEntry {
         int streak = 0;
         LocalDate currentDate = LocalDate.now();
         
-        // Sort by date descending
-        entries.sort((e1, e2) -> e2.getEntryDate().compareTo(e1.getEntryDate()));
+        // Sort a copy by date descending, the caller's list is left as it was
+        List<MoodEntry> sorted = new ArrayList<>(entries);
+        sorted.sort((e1, e2) -> e2.getEntryDate().compareTo(e1.getEntryDate()));
         
-        for (MoodEntry entry : entries) {
+        for (MoodEntry entry : sorted) {
             LocalDate entryDate = entry.getEntryDate();
             
             if (entryDate.equals(currentDate.minusDays(streak))) {
@@ -0,0 +1,61 @@
+package com.secj3303.model;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Running totals for one user's mood entries, kept up to date on every
+ * save, update and delete so the dashboard never has to read the history.
+ *
+ * streakLength is the run of consecutive days ending at lastEntryDate;
+ * it only counts as the current streak while lastEntryDate is today.
+ */
+@Entity
+@Table(name = "mood_user_summary")
+public class MoodSummary {
+
+    @Id
+    @Column(name = "username", length = 100)
+    private String username;
+
+    @Column(name = "total_entries", nullable = false)
+    private int totalEntries;
+
+    @Column(name = "last_entry_date")
+    private LocalDate lastEntryDate;
+
+    @Column(name = "streak_length", nullable = false)
+    private int streakLength;
+
+    public MoodSummary() {}
+
+    public MoodSummary(String username) {
+        this.username = username;
+    }
+
+    public int getCurrentStreak(LocalDate today) {
+        return today.equals(lastEntryDate) ? streakLength : 0;
+    }
+
+    // First day of the run that ends at lastEntryDate
+    public LocalDate getStreakStart() {
+        return lastEntryDate == null ? null : lastEntryDate.minusDays(streakLength - 1L);
+    }
+
+    // Getters and Setters
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public int getTotalEntries() { return totalEntries; }
+    public void setTotalEntries(int totalEntries) { this.totalEntries = totalEntries; }
+
+    public LocalDate getLastEntryDate() { return lastEntryDate; }
+    public void setLastEntryDate(LocalDate lastEntryDate) { this.lastEntryDate = lastEntryDate; }
+
+    public int getStreakLength() { return streakLength; }
+    public void setStreakLength(int streakLength) { this.streakLength = streakLength; }
+}
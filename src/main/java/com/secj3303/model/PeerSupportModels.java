@@ -2,8 +2,11 @@ package com.secj3303.model;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class PeerSupportModels implements Serializable {
 
@@ -16,52 +19,74 @@ public class PeerSupportModels implements Serializable {
         Map.of("value", "other", "label", "Other")
     );
 
+    // Default screening keywords; forum.screening.* properties can replace them
+    public static final Map<String, List<String>> HARMFUL_KEYWORDS = Map.of(
+        "selfHarm", Arrays.asList("kill myself", "end my life", "suicide", "self harm", "cut myself", "hurt myself"),
+        "violence", Arrays.asList("kill you", "hurt you", "attack", "violence", "weapon"),
+        "spam", Arrays.asList("click here", "buy now", "limited time", "earn money", "make $", "buy this", "!!!"),
+        "harassment", Arrays.asList("you suck", "idiot", "stupid", "loser", "hate you"),
+        "inappropriate", Arrays.asList("drugs", "alcohol abuse", "explicit")
+    );
+
+    private static final KeywordMatcher DEFAULT_MATCHER = KeywordMatcher.compile(HARMFUL_KEYWORDS);
+
     public static class ContentCheckResult implements Serializable {
         public boolean isClean;
         public String warning;
+        // Every keyword hit by category, with offsets into the checked text
+        public Map<String, List<KeywordMatcher.Match>> matches;
 
         public ContentCheckResult(boolean isClean, String warning) {
+            this(isClean, warning, Collections.emptyMap());
+        }
+
+        public ContentCheckResult(boolean isClean, String warning, Map<String, List<KeywordMatcher.Match>> matches) {
             this.isClean = isClean;
             this.warning = warning;
+            this.matches = matches;
         }
     }
 
     public static ContentCheckResult checkContentForHarmfulText(String text) {
+        return checkContentForHarmfulText(text, DEFAULT_MATCHER);
+    }
+
+    /**
+     * Screens the text with one pass of the matcher, then applies the
+     * category rules in order of severity.
+     */
+    public static ContentCheckResult checkContentForHarmfulText(String text, KeywordMatcher matcher) {
         if (text == null || text.trim().isEmpty()) {
             return new ContentCheckResult(true, "");
         }
-        
-        final String lowerText = text.toLowerCase();
-        
-        final Map<String, List<String>> harmfulKeywords = Map.of(
-            "selfHarm", Arrays.asList("kill myself", "end my life", "suicide", "self harm", "cut myself", "hurt myself"),
-            "violence", Arrays.asList("kill you", "hurt you", "attack", "violence", "weapon"),
-            "spam", Arrays.asList("click here", "buy now", "limited time", "earn money", "make $", "buy this", "!!!"),
-            "harassment", Arrays.asList("you suck", "idiot", "stupid", "loser", "hate you"),
-            "inappropriate", Arrays.asList("drugs", "alcohol abuse", "explicit")
-        );
+
+        Map<String, List<KeywordMatcher.Match>> matches = matcher.findByCategory(text);
 
         // Check for self-harm content
-        if (harmfulKeywords.get("selfHarm").stream().anyMatch(lowerText::contains)) {
-            return new ContentCheckResult(false, "Your message contains content related to self-harm. If you're in crisis, please contact a mental health professional immediately. Crisis Hotline: 1-800-273-8255");
+        if (matches.containsKey("selfHarm")) {
+            return new ContentCheckResult(false, "Your message contains content related to self-harm. If you're in crisis, please contact a mental health professional immediately. Crisis Hotline: 1-800-273-8255", matches);
         }
 
         // Check for violence
-        if (harmfulKeywords.get("violence").stream().anyMatch(lowerText::contains)) {
-            return new ContentCheckResult(false, "Your message contains violent content. This forum is for supportive discussions only.");
+        if (matches.containsKey("violence")) {
+            return new ContentCheckResult(false, "Your message contains violent content. This forum is for supportive discussions only.", matches);
         }
 
-        // Check for spam
-        long spamCount = harmfulKeywords.get("spam").stream().filter(lowerText::contains).count();
-        if (spamCount >= 3 || (lowerText.contains("!!!") && spamCount >= 2)) {
-            return new ContentCheckResult(false, "Your message appears to be spam or promotional content. Please share genuine experiences and support.");
+        // Check for spam (distinct keywords, not repetitions)
+        Set<String> spamKeywords = new HashSet<>();
+        for (KeywordMatcher.Match match : matches.getOrDefault("spam", Collections.emptyList())) {
+            spamKeywords.add(match.keyword);
+        }
+        long spamCount = spamKeywords.size();
+        if (spamCount >= 3 || (spamKeywords.contains("!!!") && spamCount >= 2)) {
+            return new ContentCheckResult(false, "Your message appears to be spam or promotional content. Please share genuine experiences and support.", matches);
         }
 
         // Check for harassment
-        if (harmfulKeywords.get("harassment").stream().anyMatch(lowerText::contains)) {
-            return new ContentCheckResult(false, "Your message contains language that may be hurtful. Please be respectful and supportive to all members.");
+        if (matches.containsKey("harassment")) {
+            return new ContentCheckResult(false, "Your message contains language that may be hurtful. Please be respectful and supportive to all members.", matches);
         }
 
-        return new ContentCheckResult(true, "");
+        return new ContentCheckResult(true, "", matches);
     }
-}
\ No newline at end of file
+}
@@ -10,11 +10,17 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 @Entity
-@Table(name = "forum_posts")
+@Table(name = "forum_posts", indexes = {
+    // Keyset cursors for the forum feed: (likes, id) for "all", (category, id) per category
+    @Index(name = "idx_post_likes_id", columnList = "likes, id"),
+    @Index(name = "idx_post_category_id", columnList = "category, id")
+})
 public class Post {
     
     @Id
@@ -32,9 +38,17 @@ public class Post {
     
     private int likes;
     
+    // Likes still buffered in ForumLikeBuffer; shown in the view, never persisted
+    @Transient
+    private int pendingLikes;
+    
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Reply> replies = new ArrayList<>();
     
+    // Denormalized so the feed can show reply counts without loading replies
+    @Column(name = "reply_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int replyCount;
+    
     private boolean trending;
     private boolean helpful;
     
@@ -80,9 +94,15 @@ public class Post {
     public int getLikes() { return likes; }
     public void setLikes(int likes) { this.likes = likes; }
     
+    public int getPendingLikes() { return pendingLikes; }
+    public void setPendingLikes(int pendingLikes) { this.pendingLikes = pendingLikes; }
+    
     public List<Reply> getReplies() { return replies; }
     public void setReplies(List<Reply> replies) { this.replies = replies; }
     
+    public int getReplyCount() { return replyCount; }
+    public void setReplyCount(int replyCount) { this.replyCount = replyCount; }
+    
     public boolean isTrending() { return trending; }
     public void setTrending(boolean trending) { this.trending = trending; }
     
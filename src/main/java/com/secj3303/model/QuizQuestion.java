@@ -3,6 +3,7 @@ package com.secj3303.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
@@ -14,7 +15,12 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OrderColumn;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
 public class QuizQuestion {
 
     @Id
@@ -27,6 +33,7 @@ public class QuizQuestion {
     @CollectionTable(name = "quizquestion_options", joinColumns = @JoinColumn(name = "quizquestion_id"))
     @OrderColumn(name = "option_order")
     @Column(nullable = false)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "learning")
     private List<String> options = new ArrayList<>();
 
     // IMPORTANT: Integer, NOT int
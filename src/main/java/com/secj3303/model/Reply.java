@@ -9,6 +9,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 @Entity
 @Table(name = "forum_replies")
@@ -31,6 +32,10 @@ public class Reply {
     
     private int likes;
     
+    // Likes still buffered in ForumLikeBuffer; shown in the view, never persisted
+    @Transient
+    private int pendingLikes;
+    
     public Reply() {}
     
     public Reply(int id, String author, String authorInitials, String time, String content, int likes) {
@@ -63,4 +68,7 @@ public class Reply {
     
     public int getLikes() { return likes; }
     public void setLikes(int likes) { this.likes = likes; }
+    
+    public int getPendingLikes() { return pendingLikes; }
+    public void setPendingLikes(int pendingLikes) { this.pendingLikes = pendingLikes; }
 }
\ No newline at end of file
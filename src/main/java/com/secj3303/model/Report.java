@@ -8,11 +8,15 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
 @Entity
-@Table(name = "forum_reports")
+@Table(name = "forum_reports", indexes = {
+    // Moderation queue: latest report and report count per post
+    @Index(name = "idx_report_post_id", columnList = "post_id, id")
+})
 public class Report {
     
     @Id
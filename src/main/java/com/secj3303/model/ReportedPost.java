@@ -0,0 +1,24 @@
+package com.secj3303.model;
+
+/**
+ * A row of the moderation queue: one reported post, its most recent
+ * report and how many reports it has in total.
+ */
+public class ReportedPost {
+
+    private final Report report;
+    private final Post post;
+    private final long reportCount;
+
+    public ReportedPost(Report report, Post post, long reportCount) {
+        this.report = report;
+        this.post = post;
+        this.reportCount = reportCount;
+    }
+
+    public Report getReport() { return report; }
+
+    public Post getPost() { return post; }
+
+    public long getReportCount() { return reportCount; }
+}
@@ -5,9 +5,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class TimeSlot {
 
@@ -42,33 +43,58 @@ public class TimeSlot {
     // --------------------------
     // Static Methods
     // --------------------------
+    public static final int DEFAULT_DAYS_AHEAD = 7;
+
+    // Bookable slots each weekday: 9-10, 12-1, 2-3, 4-5.
+    // A slot's position here is its bit in the per-day booked BitSet.
+    private static final LocalTime[][] DAILY_SLOTS = {
+        {LocalTime.of(9, 0), LocalTime.of(10, 0)},   // 9-10 AM
+        {LocalTime.of(12, 0), LocalTime.of(13, 0)},  // 12-1 PM
+        {LocalTime.of(14, 0), LocalTime.of(15, 0)},  // 2-3 PM
+        {LocalTime.of(16, 0), LocalTime.of(17, 0)}   // 4-5 PM
+    };
+
     public static List<TimeSlot> generateAvailableSlots(List<CounsellingSession> existingSessions) {
-        return generateAvailableSlots(existingSessions, null, 7);
+        return generateAvailableSlots(existingSessions, null, DEFAULT_DAYS_AHEAD);
     }
 
     public static List<TimeSlot> generateAvailableSlotsForCounsellor(
             List<CounsellingSession> allSessions, 
             String counsellorId) {
         
-        return generateAvailableSlots(allSessions, counsellorId, 7);
+        return generateAvailableSlots(allSessions, counsellorId, DEFAULT_DAYS_AHEAD);
     }
 
     public static List<TimeSlot> generateAvailableSlots(
             List<CounsellingSession> allSessions,
             String counsellorId,
             int daysAhead) {
-        
-        List<TimeSlot> slots = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        // Filter sessions for specific counsellor if provided
-        List<CounsellingSession> relevantSessions = allSessions;
-        if (counsellorId != null) {
-            relevantSessions = allSessions.stream()
-                    .filter(s -> s.getCounsellor() != null && 
-                            s.getCounsellor().getId().equals(counsellorId))
-                    .collect(Collectors.toList());
+
+        Map<LocalDate, BitSet> bookedByDay = new HashMap<>();
+        for (CounsellingSession s : allSessions) {
+            // Filter sessions for specific counsellor if provided
+            if (counsellorId != null &&
+                    (s.getCounsellor() == null || !s.getCounsellor().getId().equals(counsellorId))) {
+                continue;
+            }
+            if (s.getStatus() != CounsellingSession.SessionStatus.CANCELLED) {
+                markBooked(bookedByDay, s.getDate(), s.getStartTime());
+            }
         }
+        return generateAvailableSlots(LocalDate.now(), daysAhead, bookedByDay);
+    }
+
+    /**
+     * Free slots from tomorrow up to daysAhead days after today, weekends skipped.
+     * bookedByDay holds one BitSet per date with a bit set for each taken slot.
+     */
+    public static List<TimeSlot> generateAvailableSlots(
+            LocalDate today,
+            int daysAhead,
+            Map<LocalDate, BitSet> bookedByDay) {
+
+        List<TimeSlot> slots = new ArrayList<>();
+        BitSet noneBooked = new BitSet(DAILY_SLOTS.length);
 
         // Start from tomorrow (skip current day)
         for (int i = 1; i <= daysAhead; i++) {
@@ -80,32 +106,32 @@ public class TimeSlot {
                 continue;
             }
 
-            // Define specific time slots: 9-10, 12-1, 2-3, 4-5
-            List<LocalTime[]> timeSlots = Arrays.asList(
-                new LocalTime[]{LocalTime.of(9, 0), LocalTime.of(10, 0)},   // 9-10 AM
-                new LocalTime[]{LocalTime.of(12, 0), LocalTime.of(13, 0)},  // 12-1 PM
-                new LocalTime[]{LocalTime.of(14, 0), LocalTime.of(15, 0)},  // 2-3 PM
-                new LocalTime[]{LocalTime.of(16, 0), LocalTime.of(17, 0)}   // 4-5 PM
-            );
-            
-            // Check each time slot
-            for (LocalTime[] timeSlot : timeSlots) {
-                LocalTime startTime = timeSlot[0];
-                LocalTime endTime = timeSlot[1];
-                
-                boolean isBooked = relevantSessions.stream()
-                        .anyMatch(s -> 
-                            s.getDate().equals(date) && 
-                            s.getStartTime().equals(startTime) &&
-                            s.getStatus() != CounsellingSession.SessionStatus.CANCELLED
-                        );
-                
-                if (!isBooked) {
-                    slots.add(new TimeSlot(date, startTime, endTime));
-                }
+            BitSet booked = bookedByDay.getOrDefault(date, noneBooked);
+            for (int slot = booked.nextClearBit(0); slot < DAILY_SLOTS.length; slot = booked.nextClearBit(slot + 1)) {
+                slots.add(new TimeSlot(date, DAILY_SLOTS[slot][0], DAILY_SLOTS[slot][1]));
             }
         }
 
         return slots;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets the bit for the slot starting at startTime; times that are not
+     * a standard slot start are ignored.
+     */
+    public static void markBooked(Map<LocalDate, BitSet> bookedByDay, LocalDate date, LocalTime startTime) {
+        int slot = slotIndex(startTime);
+        if (slot >= 0) {
+            bookedByDay.computeIfAbsent(date, d -> new BitSet(DAILY_SLOTS.length)).set(slot);
+        }
+    }
+
+    private static int slotIndex(LocalTime startTime) {
+        for (int i = 0; i < DAILY_SLOTS.length; i++) {
+            if (DAILY_SLOTS[i][0].equals(startTime)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
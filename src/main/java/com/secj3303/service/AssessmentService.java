@@ -8,8 +8,8 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
-import javax.persistence.TypedQuery;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -17,6 +17,8 @@ import java.util.*;
 @Transactional
 public class AssessmentService {
     
+    public static final int HISTORY_PAGE_SIZE = 10;
+    
     private final AssessmentDao assessmentDao;
     private final StudentDao studentDao;
     private final QuestionDao questionDao;
@@ -47,68 +49,15 @@ public class AssessmentService {
         return assessmentDao.findByIdWithQuestions(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getAllAssignedStudents() {
-        // Get all students
-        List<Student> students = studentDao.findAll();
-        
-        // For each student, calculate assessment count
-        for (Student student : students) {
-            List<AssessmentResult> history = getStudentAssessmentHistory(student.getId());
-            student.setAssessmentCount(history.size());
-            
-            // Also set last assessment date if available
-            if (!history.isEmpty()) {
-                student.setLastAssessment(history.get(0).getDate()); // Most recent
-            }
-        }
-        
-        return students;
+        // Count, last date and latest severity in one query; history is loaded per selected student
+        return studentDao.findWithAssessmentSummary(null, null);
     }
     
+    @Transactional(readOnly = true)
     public List<Student> filterStudents(String search, String risk) {
-        // Build dynamic query
-        StringBuilder jpql = new StringBuilder("SELECT s FROM Student s WHERE 1=1");
-        Map<String, Object> parameters = new HashMap<>();
-        
-        if (search != null && !search.trim().isEmpty()) {
-            jpql.append(" AND (LOWER(s.name) LIKE :search OR LOWER(s.email) LIKE :search OR s.studentId LIKE :search)");
-            parameters.put("search", "%" + search.toLowerCase() + "%");
-        }
-        
-        if (risk != null && !"all".equals(risk)) {
-            jpql.append(" AND LOWER(s.riskLevel) = :risk");
-            parameters.put("risk", risk.toLowerCase());
-        }
-        
-        jpql.append(" ORDER BY s.name");
-        
-        TypedQuery<Student> query = entityManager.createQuery(jpql.toString(), Student.class);
-        
-        // Set parameters
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            query.setParameter(entry.getKey(), entry.getValue());
-        }
-        
-        List<Student> filteredStudents = query.getResultList();
-        
-        // Set assessment count for each filtered student
-        for (Student student : filteredStudents) {
-            Long count = getAssessmentCountForStudent(student.getId());
-            student.setAssessmentCount(count != null ? count.intValue() : 0);
-        }
-        
-        return filteredStudents;
-    }
-    
-    private Long getAssessmentCountForStudent(Integer studentId) {
-        String queryStr = "SELECT COUNT(r.id) FROM AssessmentResult r WHERE r.student.id = :studentId";
-        try {
-            return entityManager.createQuery(queryStr, Long.class)
-                .setParameter("studentId", studentId)
-                .getSingleResult();
-        } catch (Exception e) {
-            return 0L;
-        }
+        return studentDao.findWithAssessmentSummary(search, risk);
     }
     
     @Transactional
@@ -142,6 +91,7 @@ public class AssessmentService {
         AssessmentResult result = new AssessmentResult();
         result.setAssessmentTitle(assessment.getTitle());
         result.setDate(LocalDate.now().format(DateTimeFormatter.ofPattern("MMM d, yyyy")));
+        result.setSubmittedAt(LocalDateTime.now());
         result.setScore(normalizedScore);
         result.setSeverity(severity);
         result.setReportAvailable(true);
@@ -177,6 +127,22 @@ public class AssessmentService {
         return assessmentResultDao.findByStudentId(studentId);
     }
     
+    /**
+     * One page of a student's history, newest first. Pass the submittedAt and id of the
+     * last result already shown to get the next page, or nulls for the first page.
+     */
+    public KeysetPage<AssessmentResult> getStudentAssessmentHistoryPage(Integer studentId,
+                                                                       LocalDateTime beforeSubmittedAt,
+                                                                       Integer beforeId) {
+        List<AssessmentResult> rows = assessmentResultDao.findPageByStudentId(
+            studentId, beforeSubmittedAt, beforeId, HISTORY_PAGE_SIZE + 1);
+        return KeysetPage.of(rows, HISTORY_PAGE_SIZE);
+    }
+    
+    public long getAssessmentCount(Integer studentId) {
+        return assessmentResultDao.countByStudentId(studentId);
+    }
+    
     public Optional<AssessmentResult> getLatestAssessmentResult(Integer studentId) {
         return assessmentResultDao.findLatestByStudentId(studentId);
     }
@@ -218,8 +184,8 @@ public class AssessmentService {
             
             // Now save all new answers
             if (answers != null && !answers.isEmpty()) {
-                assessmentAnswerDao.saveAnswers(answers, assessmentId, studentId);
-                System.out.println("Saved " + answers.size() + " answers for student " + studentId);
+                int saved = assessmentAnswerDao.saveAnswers(answers, assessmentId, studentId);
+                System.out.println("Saved " + saved + " answers for student " + studentId);
             }
         } catch (Exception e) {
             // Log the error but don't crash
@@ -280,69 +246,9 @@ public class AssessmentService {
         assessmentResultDao.delete(resultId);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getAllStudentWithAssessmentCount() {
-        String queryStr = """
-            SELECT s, COUNT(r.id) as assessmentCount 
-            FROM Student s 
-            LEFT JOIN AssessmentResult r ON s.id = r.student.id 
-            GROUP BY s.id, s.name, s.email, s.studentId, s.department, s.year, 
-                     s.currentGrade, s.attendance, s.lastActivity, s.riskLevel
-            ORDER BY s.name
-            """;
-        
-        try {
-            List<Object[]> results = entityManager.createQuery(queryStr, Object[].class).getResultList();
-            List<Student> students = new ArrayList<>();
-            
-            for (Object[] result : results) {
-                Student student = (Student) result[0];
-                Long count = (Long) result[1];
-                
-                // Set assessment count
-                student.setAssessmentCount(count != null ? count.intValue() : 0);
-                
-                // Set risk level based on latest assessment if available
-                if (count != null && count > 0) {
-                    try {
-                        String latestRiskQuery = """
-                            SELECT r.severity FROM AssessmentResult r 
-                            WHERE r.student.id = :studentId 
-                            ORDER BY r.date DESC 
-                            """;
-                        
-                        List<String> severities = entityManager.createQuery(latestRiskQuery, String.class)
-                            .setParameter("studentId", student.getId())
-                            .setMaxResults(1)
-                            .getResultList();
-                        
-                        if (!severities.isEmpty()) {
-                            student.setRiskLevel(severities.get(0).toLowerCase());
-                        }
-                    } catch (Exception e) {
-                        // Keep existing risk level if we can't determine new one
-                    }
-                }
-                
-                // Set assessment history as a transient field
-                List<AssessmentResult> history = getStudentAssessmentHistory(student.getId());
-                student.setAssessmentHistory(history);
-                
-                students.add(student);
-            }
-            
-            return students;
-        } catch (Exception e) {
-            // Fallback to DAO method if JPQL query fails
-            List<Student> students = studentDao.findAll();
-            for (Student student : students) {
-                Long count = getAssessmentCountForStudent(student.getId());
-                student.setAssessmentCount(count != null ? count.intValue() : 0);
-                
-                List<AssessmentResult> history = getStudentAssessmentHistory(student.getId());
-                student.setAssessmentHistory(history);
-            }
-            return students;
-        }
+        return studentDao.findWithAssessmentSummary(null, null);
     }
 
     @Transactional(readOnly = true)
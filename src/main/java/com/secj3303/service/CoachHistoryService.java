@@ -0,0 +1,186 @@
+package com.secj3303.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.secj3303.dao.CoachMessageDao;
+import com.secj3303.model.CoachMessage;
+import com.secj3303.model.KeysetPage;
+import com.secj3303.model.Message;
+
+/**
+ * AI coach chat history, stored per user in coach_messages instead of the
+ * HTTP session. Only the latest coach.history.size messages of a user are
+ * kept in memory, in a fixed ring that overwrites its oldest slot, and at
+ * most coach.history.maxUsers rings are kept (least recently used are
+ * dropped and reloaded on demand). Older messages are read from the
+ * database a page at a time.
+ */
+@Service
+public class CoachHistoryService {
+
+    static final String GREETING = "Hello! I'm your AI Mental Health Coach. I'm here to provide support and guidance for your wellbeing journey. How are you feeling today?";
+
+    @Autowired
+    private CoachMessageDao coachMessageDao;
+
+    @Value("${coach.history.size:30}")
+    private int ringSize;
+
+    @Value("${coach.history.pageSize:20}")
+    private int pageSize;
+
+    @Value("${coach.history.maxUsers:1000}")
+    private int maxUsers;
+
+    // Access-ordered so the least recently used ring is evicted first
+    private final Map<String, MessageRing> rings = new LinkedHashMap<String, MessageRing>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MessageRing> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    /**
+     * The latest messages of a user, oldest first. A new conversation
+     * starts with the coach's greeting.
+     */
+    public List<Message> getRecent(String username) {
+        MessageRing ring = ringFor(username);
+        synchronized (ring) {
+            if (ring.isEmpty()) {
+                append(username, new Message(GREETING, "ai"));
+            }
+        }
+        return ring.toList();
+    }
+
+    /**
+     * Whether the database holds messages older than the ones in getRecent.
+     */
+    public boolean hasOlder(String username) {
+        return ringFor(username).hasOlder();
+    }
+
+    /**
+     * Messages older than beforeId, newest first.
+     */
+    public KeysetPage<Message> getOlderPage(String username, long beforeId) {
+        List<CoachMessage> rows = coachMessageDao.findPage(username, beforeId, pageSize + 1);
+        return KeysetPage.of(rows.stream().map(CoachMessage::toMessage).collect(Collectors.toList()), pageSize);
+    }
+
+    /**
+     * Stores a message and returns it with its id.
+     */
+    public Message append(String username, Message message) {
+        // Ring first, so a ring loaded here cannot already contain the new row
+        MessageRing ring = ringFor(username);
+        Message stored = coachMessageDao.save(new CoachMessage(username, message)).toMessage();
+        ring.add(stored);
+        return stored;
+    }
+
+    public void remove(String username, Message message) {
+        if (message.getId() == null) {
+            return;
+        }
+        coachMessageDao.delete(message.getId());
+        ringFor(username).remove(message.getId());
+    }
+
+    public void clear(String username) {
+        coachMessageDao.deleteByUsername(username);
+        synchronized (rings) {
+            rings.remove(username);
+        }
+    }
+
+    private MessageRing ringFor(String username) {
+        synchronized (rings) {
+            MessageRing ring = rings.get(username);
+            if (ring != null) {
+                return ring;
+            }
+        }
+
+        // Loaded outside the lock; if two requests race, the first ring stored wins
+        List<CoachMessage> latest = coachMessageDao.findPage(username, null, ringSize + 1);
+        MessageRing loaded = new MessageRing(ringSize, latest.size() > ringSize);
+        for (int i = Math.min(latest.size(), ringSize) - 1; i >= 0; i--) {
+            loaded.add(latest.get(i).toMessage());
+        }
+
+        synchronized (rings) {
+            return rings.computeIfAbsent(username, k -> loaded);
+        }
+    }
+
+    /**
+     * Fixed-capacity buffer of the newest messages; adding to a full ring
+     * overwrites the oldest one.
+     */
+    static class MessageRing {
+
+        private final Message[] slots;
+        private int head;   // index of the oldest message
+        private int size;
+        private boolean older;
+
+        MessageRing(int capacity, boolean older) {
+            this.slots = new Message[Math.max(1, capacity)];
+            this.older = older;
+        }
+
+        synchronized void add(Message message) {
+            if (size == slots.length) {
+                slots[head] = message;
+                head = (head + 1) % slots.length;
+                older = true;
+            } else {
+                slots[(head + size) % slots.length] = message;
+                size++;
+            }
+        }
+
+        synchronized void remove(Long id) {
+            for (int i = 0; i < size; i++) {
+                if (id.equals(slots[(head + i) % slots.length].getId())) {
+                    for (int j = i; j < size - 1; j++) {
+                        slots[(head + j) % slots.length] = slots[(head + j + 1) % slots.length];
+                    }
+                    size--;
+                    slots[(head + size) % slots.length] = null;
+                    return;
+                }
+            }
+        }
+
+        synchronized List<Message> toList() {
+            if (size == 0) {
+                return Collections.emptyList();
+            }
+            List<Message> messages = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                messages.add(slots[(head + i) % slots.length]);
+            }
+            return messages;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        synchronized boolean hasOlder() {
+            return older;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.secj3303.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.secj3303.model.Message;
+
+/**
+ * Produces AI coach replies off the servlet threads. Replies are built on
+ * the bounded coachExecutor; delays are scheduled completions on
+ * coachScheduler, so no thread sleeps while a student waits.
+ *
+ * Streamed replies run on coachStreamExecutor, which has a thread per
+ * allowed stream, so a slow client's blocking write never delays
+ * /coach/send. They are sent one chunk at a time and the next chunk is only
+ * scheduled once the previous write has returned, so a slow client slows
+ * its own stream instead of piling chunks up in memory.
+ */
+@Service
+public class CoachReplyService implements InitializingBean {
+
+    @Autowired
+    @Qualifier("coachExecutor")
+    private TaskExecutor coachExecutor;
+
+    @Autowired
+    @Qualifier("coachStreamExecutor")
+    private TaskExecutor streamExecutor;
+
+    @Autowired
+    @Qualifier("coachScheduler")
+    private TaskScheduler coachScheduler;
+
+    @Autowired
+    private Map<String, CoachResponder> responders;
+
+    @Value("${coach.responder:rules}")
+    private String responderName;
+
+    @Value("${coach.reply.minDelayMillis:500}")
+    private long minDelayMillis;
+
+    @Value("${coach.reply.maxDelayMillis:1000}")
+    private long maxDelayMillis;
+
+    @Value("${coach.stream.chunkDelayMillis:40}")
+    private long chunkDelayMillis;
+
+    @Value("${coach.stream.timeoutMillis:30000}")
+    private long streamTimeoutMillis;
+
+    @Value("${coach.stream.maxConcurrent:50}")
+    private int maxConcurrentStreams;
+
+    private CoachResponder responder;
+    private Semaphore streamPermits;
+
+    @Override
+    public void afterPropertiesSet() {
+        responder = responders.get(responderName);
+        if (responder == null) {
+            throw new IllegalStateException("Unknown coach.responder '" + responderName + "', expected one of " + responders.keySet());
+        }
+        streamPermits = new Semaphore(maxConcurrentStreams);
+        System.out.println("✅ AI coach using responder: " + responderName);
+    }
+
+    // ===============================
+    // WHOLE REPLY
+    // ===============================
+
+    /**
+     * Completes with the reply text after the thinking delay.
+     *
+     * @throws TaskRejectedException if the executor queue is full
+     */
+    public CompletableFuture<String> reply(String userInput) {
+        CompletableFuture<String> reply = new CompletableFuture<>();
+        long startedAt = System.currentTimeMillis();
+        long delay = thinkingDelayMillis();
+
+        coachExecutor.execute(() -> {
+            try {
+                String text = responder.respond(userInput);
+                long remaining = delay - (System.currentTimeMillis() - startedAt);
+                if (remaining <= 0) {
+                    reply.complete(text);
+                } else {
+                    coachScheduler.schedule(() -> reply.complete(text), Instant.now().plusMillis(remaining));
+                }
+            } catch (RuntimeException e) {
+                reply.completeExceptionally(e);
+            }
+        });
+        return reply;
+    }
+
+    private long thinkingDelayMillis() {
+        if (maxDelayMillis <= minDelayMillis) {
+            return Math.max(0, minDelayMillis);
+        }
+        return ThreadLocalRandom.current().nextLong(minDelayMillis, maxDelayMillis);
+    }
+
+    // ===============================
+    // STREAMED REPLY (SSE)
+    // ===============================
+
+    /**
+     * Opens a stream of "chunk" events followed by one "done" event carrying
+     * the whole message. onReply gets the full reply before "done" is sent.
+     * Returns null when coach.stream.maxConcurrent streams are already open.
+     */
+    public SseEmitter openStream(String userInput, Consumer<Message> onReply) {
+        if (!streamPermits.tryAcquire()) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        AtomicBoolean finished = new AtomicBoolean(false);
+        Runnable release = () -> {
+            if (finished.compareAndSet(false, true)) {
+                streamPermits.release();
+            }
+        };
+        emitter.onCompletion(release);
+        emitter.onTimeout(release);
+        emitter.onError(error -> release.run());
+
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    String text = responder.respond(userInput);
+                    sendChunk(emitter, finished, responder.toChunks(text), 0, new Message(text, "ai"), onReply);
+                } catch (RuntimeException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            release.run();
+            return null;
+        }
+        return emitter;
+    }
+
+    public int getOpenStreams() {
+        return maxConcurrentStreams - streamPermits.availablePermits();
+    }
+
+    // Runs on coachStreamExecutor; schedules itself for the next chunk
+    private void sendChunk(SseEmitter emitter, AtomicBoolean finished, List<String> chunks, int index,
+                           Message message, Consumer<Message> onReply) {
+        if (finished.get()) {
+            return; // client went away or the stream timed out
+        }
+        try {
+            if (index < chunks.size()) {
+                emitter.send(SseEmitter.event().name("chunk").data(chunks.get(index)));
+                coachScheduler.schedule(
+                    () -> continueOnExecutor(emitter, finished, chunks, index + 1, message, onReply),
+                    Instant.now().plusMillis(chunkDelayMillis));
+            } else {
+                onReply.accept(message);
+                emitter.send(SseEmitter.event().name("done").data(message));
+                emitter.complete();
+            }
+        } catch (IOException | RuntimeException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // Writes can block on a slow client, so they never run on the single scheduler thread
+    private void continueOnExecutor(SseEmitter emitter, AtomicBoolean finished, List<String> chunks, int index,
+                                    Message message, Consumer<Message> onReply) {
+        try {
+            streamExecutor.execute(() -> sendChunk(emitter, finished, chunks, index, message, onReply));
+        } catch (TaskRejectedException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.secj3303.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Produces the AI coach's reply to one user message. Implementations are
+ * Spring beans selected by name with the coach.responder property.
+ */
+public interface CoachResponder {
+
+    String respond(String userInput);
+
+    /**
+     * Pieces the reply is streamed in. By default one word at a time,
+     * each keeping its trailing whitespace so the pieces join back exactly.
+     */
+    default List<String> toChunks(String reply) {
+        return Arrays.asList(reply.split("(?<=\\s)(?=\\S)"));
+    }
+}
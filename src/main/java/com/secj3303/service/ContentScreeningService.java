@@ -0,0 +1,68 @@
+package com.secj3303.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.secj3303.model.KeywordMatcher;
+import com.secj3303.model.PeerSupportModels;
+import com.secj3303.model.PeerSupportModels.ContentCheckResult;
+
+/**
+ * Screens forum posts and replies with a KeywordMatcher compiled once at
+ * startup. Each forum.screening.* property replaces the default keywords
+ * of its category (comma separated); empty keeps the defaults.
+ */
+@Service
+public class ContentScreeningService implements InitializingBean {
+
+    @Value("${forum.screening.selfHarm:}")
+    private String selfHarmKeywords;
+
+    @Value("${forum.screening.violence:}")
+    private String violenceKeywords;
+
+    @Value("${forum.screening.spam:}")
+    private String spamKeywords;
+
+    @Value("${forum.screening.harassment:}")
+    private String harassmentKeywords;
+
+    @Value("${forum.screening.inappropriate:}")
+    private String inappropriateKeywords;
+
+    private KeywordMatcher matcher;
+
+    @Override
+    public void afterPropertiesSet() {
+        Map<String, List<String>> keywords = new HashMap<>(PeerSupportModels.HARMFUL_KEYWORDS);
+        override(keywords, "selfHarm", selfHarmKeywords);
+        override(keywords, "violence", violenceKeywords);
+        override(keywords, "spam", spamKeywords);
+        override(keywords, "harassment", harassmentKeywords);
+        override(keywords, "inappropriate", inappropriateKeywords);
+
+        matcher = KeywordMatcher.compile(keywords);
+        System.out.println("✅ Content screening compiled with " + matcher.keywordCount() + " keywords");
+    }
+
+    public ContentCheckResult check(String text) {
+        return PeerSupportModels.checkContentForHarmfulText(text, matcher);
+    }
+
+    private void override(Map<String, List<String>> keywords, String category, String configured) {
+        if (configured == null || configured.isBlank()) {
+            return;
+        }
+        keywords.put(category, Arrays.stream(configured.split(","))
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList()));
+    }
+}
@@ -5,22 +5,46 @@ import com.secj3303.dao.CounsellingSessionDao;
 import com.secj3303.dao.StudentDao;
 import com.secj3303.model.Counsellor;
 import com.secj3303.model.CounsellingSession;
-import com.secj3303.model.Student;
 import com.secj3303.model.TimeSlot;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.PersistenceException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 @Service
 public class CounsellingSessionService {
+
+    private static final String SLOT_TAKEN = "Selected time slot is not available";
+
+    // Bookings for the same counsellor are serialised on one of these locks
+    private static final int BOOKING_LOCK_STRIPES = 32;
+    private static final long BOOKING_LOCK_WAIT_SECONDS = 5;
+
+    private final ReentrantLock[] bookingLocks = new ReentrantLock[BOOKING_LOCK_STRIPES];
+    {
+        for (int i = 0; i < BOOKING_LOCK_STRIPES; i++) {
+            bookingLocks[i] = new ReentrantLock();
+        }
+    }
+
+    private TransactionTemplate transactionTemplate;
     
     @Autowired
     private CounsellingSessionDao sessionDao;
@@ -31,6 +55,11 @@ public class CounsellingSessionService {
     @Autowired
     private StudentDao studentDao;
 
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     // ---------------------------
     // Core CRUD operations
     // ---------------------------
@@ -158,27 +187,16 @@ public class CounsellingSessionService {
     private void attachStudentNamesToSessions(List<CounsellingSession> sessions) {
         if (sessions == null || sessions.isEmpty()) return;
         
-        // Collect unique student IDs
-        Map<String, String> studentNameMap = new HashMap<>();
-        
+        // Collect unique student IDs (a studentId or, for older sessions, an email)
+        Set<String> studentIds = new HashSet<>();
         for (CounsellingSession session : sessions) {
-            String studentId = session.getStudentId();
-            if (studentId != null && !studentNameMap.containsKey(studentId)) {
-                // Try to find student by studentId
-                Optional<Student> student = studentDao.findByStudentId(studentId);
-                if (student.isPresent()) {
-                    studentNameMap.put(studentId, student.get().getName());
-                } else {
-                    // Try to find by email (studentId might be email)
-                    Optional<Student> studentByEmail = studentDao.findByEmail(studentId);
-                    if (studentByEmail.isPresent()) {
-                        studentNameMap.put(studentId, studentByEmail.get().getName());
-                    } else {
-                        studentNameMap.put(studentId, null); // No student found
-                    }
-                }
+            if (session.getStudentId() != null) {
+                studentIds.add(session.getStudentId());
             }
         }
+        if (studentIds.isEmpty()) return;
+        
+        Map<String, String> studentNameMap = studentDao.findNamesByStudentIdsOrEmails(studentIds);
         
         // Attach student names to sessions
         for (CounsellingSession session : sessions) {
@@ -192,32 +210,38 @@ public class CounsellingSessionService {
     private void attachStudentNameToSession(CounsellingSession session) {
         if (session == null || session.getStudentId() == null) return;
         
-        String studentId = session.getStudentId();
-        Optional<Student> student = studentDao.findByStudentId(studentId);
-        if (student.isPresent()) {
-            session.setStudentName(student.get().getName());
-        } else {
-            // Try email
-            Optional<Student> studentByEmail = studentDao.findByEmail(studentId);
-            if (studentByEmail.isPresent()) {
-                session.setStudentName(studentByEmail.get().getName());
-            }
+        String studentName = findStudentName(session.getStudentId());
+        if (studentName != null) {
+            session.setStudentName(studentName);
         }
     }
+    
+    private String findStudentName(String studentId) {
+        return studentDao.findNamesByStudentIdsOrEmails(List.of(studentId)).get(studentId);
+    }
 
     // ---------------------------
     // TimeSlot generation
     // ---------------------------
     @Transactional(readOnly = true)
     public List<TimeSlot> generateAvailableSlotsForCounsellor(Counsellor counsellor) {
-        List<CounsellingSession> allSessions = getAllSessions();
-        return TimeSlot.generateAvailableSlotsForCounsellor(allSessions, counsellor.getId());
+        return generateAvailableSlotsForCounsellorId(counsellor.getId());
     }
 
+    /**
+     * Only the counsellor's sessions inside the booking window are read;
+     * taken slots go into one BitSet per day.
+     */
     @Transactional(readOnly = true)
     public List<TimeSlot> generateAvailableSlotsForCounsellorId(String counsellorId) {
-        List<CounsellingSession> allSessions = getAllSessions();
-        return TimeSlot.generateAvailableSlotsForCounsellor(allSessions, counsellorId);
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, List<LocalTime>> startTimes = sessionDao.findActiveStartTimes(
+                counsellorId, today.plusDays(1), today.plusDays(TimeSlot.DEFAULT_DAYS_AHEAD));
+
+        Map<LocalDate, BitSet> bookedByDay = new HashMap<>();
+        startTimes.forEach((date, times) -> times.forEach(time -> TimeSlot.markBooked(bookedByDay, date, time)));
+
+        return TimeSlot.generateAvailableSlots(today, TimeSlot.DEFAULT_DAYS_AHEAD, bookedByDay);
     }
 
     // ---------------------------
@@ -269,12 +293,16 @@ public class CounsellingSessionService {
     // ---------------------------
     // Session operations
     // ---------------------------
-    @Transactional
+    /**
+     * Books a slot. The availability check and insert run under the
+     * counsellor's booking lock, and the lock is held until the commit, so
+     * concurrent requests for one slot see each other. uk_session_active_slot
+     * backs this up across application instances.
+     */
     public void bookSession(String counsellorId, String studentId, LocalDate date, LocalTime start, 
                         String sessionType, String sessionLocation, String notes) {
         
-        Counsellor counsellor = counsellorDao.findById(counsellorId);
-        if (counsellor == null) {
+        if (counsellorId == null || counsellorDao.findById(counsellorId) == null) {
             throw new IllegalArgumentException("Invalid counsellor ID: " + counsellorId);
         }
         
@@ -282,45 +310,35 @@ public class CounsellingSessionService {
             throw new IllegalArgumentException("Student ID is required");
         }
         
-        // Check for overlapping sessions (excluding cancelled sessions)
-        List<CounsellingSession> existingSessions = findByCounsellorAndDate(counsellorId, date);
-        boolean slotTaken = existingSessions.stream()
-                .anyMatch(s -> s.getStartTime().equals(start) && 
-                            s.getStatus() != CounsellingSession.SessionStatus.CANCELLED);
-        
-        if (slotTaken) {
-            throw new IllegalArgumentException("Selected time slot is not available");
-        }
-        
         // Try to get student name for the session
-        String studentName = null;
-        Optional<Student> student = studentDao.findByStudentId(studentId);
-        if (student.isPresent()) {
-            studentName = student.get().getName();
-        } else {
-            Optional<Student> studentByEmail = studentDao.findByEmail(studentId);
-            if (studentByEmail.isPresent()) {
-                studentName = studentByEmail.get().getName();
-            }
-        }
+        String studentName = findStudentName(studentId);
         
-        CounsellingSession session = new CounsellingSession();
-        session.setCounsellor(counsellor);
-        session.setStudentId(studentId);
-        session.setStudentName(studentName);
-        session.setDate(date);
-        session.setStartTime(start);
-        session.setEndTime(start.plusHours(1));
-        session.setTypeFromString(sessionType);
-        session.setLocation(sessionLocation);
-        session.setStatus(CounsellingSession.SessionStatus.SCHEDULED);
-        session.setAttendanceConfirmed(false);
-        session.setNotes(notes);
-        session.setReportAvailable(false);
-        session.setReportContent(null);
-        session.setCancellationReason(null);
-        
-        sessionDao.save(session);
+        withBookingLock(counsellorId, () -> {
+            Counsellor counsellor = counsellorDao.findById(counsellorId);
+
+            // Check for overlapping sessions (excluding cancelled sessions)
+            if (!isTimeSlotAvailable(counsellorId, date, start)) {
+                throw new IllegalArgumentException(SLOT_TAKEN);
+            }
+            
+            CounsellingSession session = new CounsellingSession();
+            session.setCounsellor(counsellor);
+            session.setStudentId(studentId);
+            session.setStudentName(studentName);
+            session.setDate(date);
+            session.setStartTime(start);
+            session.setEndTime(start.plusHours(1));
+            session.setTypeFromString(sessionType);
+            session.setLocation(sessionLocation);
+            session.setStatus(CounsellingSession.SessionStatus.SCHEDULED);
+            session.setAttendanceConfirmed(false);
+            session.setNotes(notes);
+            session.setReportAvailable(false);
+            session.setReportContent(null);
+            session.setCancellationReason(null);
+            
+            sessionDao.save(session);
+        });
     }
     
     @Transactional
@@ -354,28 +372,32 @@ public class CounsellingSessionService {
         updateSession(session);
     }
     
-    @Transactional
     public void rescheduleSession(Integer sessionId, LocalDate newDate, LocalTime newTime) {
-        CounsellingSession session = getSessionById(sessionId);
-        validateSessionExists(session, sessionId);
+        CounsellingSession current = sessionDao.findById(sessionId);
+        validateSessionExists(current, sessionId);
         
-        // Check if reschedule is allowed
-        if (session.getStatus() == CounsellingSession.SessionStatus.COMPLETED || 
-            session.getStatus() == CounsellingSession.SessionStatus.CANCELLED) {
-            throw new IllegalStateException("Cannot reschedule a " + session.getStatus() + " session");
-        }
-        
-        // Check for overlapping at new time
-        String counsellorId = session.getCounsellor().getId();
-        if (!isTimeSlotAvailable(counsellorId, newDate, newTime, sessionId)) {
-            throw new IllegalArgumentException("New time slot is not available");
-        }
-        
-        session.setDate(newDate);
-        session.setStartTime(newTime);
-        session.setEndTime(newTime.plusHours(1));
-        session.setStatus(CounsellingSession.SessionStatus.PENDING_RESCHEDULE);
-        updateSession(session);
+        String counsellorId = current.getCounsellor().getId();
+        withBookingLock(counsellorId, () -> {
+            CounsellingSession session = sessionDao.findById(sessionId);
+            validateSessionExists(session, sessionId);
+            
+            // Check if reschedule is allowed
+            if (session.getStatus() == CounsellingSession.SessionStatus.COMPLETED || 
+                session.getStatus() == CounsellingSession.SessionStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot reschedule a " + session.getStatus() + " session");
+            }
+            
+            // Check for overlapping at new time
+            if (!isTimeSlotAvailable(counsellorId, newDate, newTime, sessionId)) {
+                throw new IllegalArgumentException("New time slot is not available");
+            }
+            
+            session.setDate(newDate);
+            session.setStartTime(newTime);
+            session.setEndTime(newTime.plusHours(1));
+            session.setStatus(CounsellingSession.SessionStatus.PENDING_RESCHEDULE);
+            sessionDao.update(session);
+        });
     }
     
     @Transactional
@@ -425,7 +447,11 @@ public class CounsellingSessionService {
     
     @Transactional(readOnly = true)
     public boolean isTimeSlotAvailable(String counsellorId, LocalDate date, LocalTime startTime, Integer excludeSessionId) {
-        List<CounsellingSession> sessions = findByCounsellorAndDate(counsellorId, date);
+        Counsellor counsellor = counsellorDao.findById(counsellorId);
+        if (counsellor == null) {
+            return false;
+        }
+        List<CounsellingSession> sessions = sessionDao.findByCounsellorAndDate(counsellor, date);
         LocalTime endTime = startTime.plusHours(1);
         
         return sessions.stream()
@@ -437,6 +463,38 @@ public class CounsellingSessionService {
                 ));
     }
     
+    /**
+     * Runs a booking change in its own transaction while holding the
+     * counsellor's lock stripe. A unique-key clash (a booking made through
+     * another instance) is reported as the slot being taken. The clash comes
+     * out of persist() untranslated (IDENTITY ids insert straight away), or
+     * translated when it only shows up at commit.
+     */
+    private void withBookingLock(String counsellorId, Runnable booking) {
+        ReentrantLock lock = bookingLocks[Math.floorMod(counsellorId.hashCode(), BOOKING_LOCK_STRIPES)];
+        try {
+            if (!lock.tryLock(BOOKING_LOCK_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Booking is busy, please try again");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Booking was interrupted, please try again");
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> booking.run());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(SLOT_TAKEN);
+        } catch (PersistenceException e) {
+            if (e.getCause() instanceof ConstraintViolationException) {
+                throw new IllegalArgumentException(SLOT_TAKEN);
+            }
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     private boolean isTimeOverlap(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
         return start1.isBefore(end2) && start2.isBefore(end1);
     }
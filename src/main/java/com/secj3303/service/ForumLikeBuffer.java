@@ -0,0 +1,198 @@
+package com.secj3303.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.secj3303.dao.ForumLikeDao;
+import com.secj3303.dao.PostDao;
+import com.secj3303.dao.ReplyDao;
+import com.secj3303.model.ForumLike;
+
+/**
+ * Buffers forum likes in memory and writes them in batches.
+ *
+ * Likes are counted per post/reply in LongAdders, so concurrent likes on a
+ * popular post do not contend on one row lock. Every forum.likes.flushMillis
+ * (and on shutdown) the forum_likes rows are written and each touched
+ * post/reply gets "likes = likes + n" in the same transaction, where n is
+ * the number of its likes actually inserted. A user can like each post or
+ * reply once.
+ */
+@Service
+public class ForumLikeBuffer implements DisposableBean {
+
+    private static final int USER_CACHE_SIZE = 5000;
+
+    // Pending likes per post/reply for the views; entries are dropped once flushed
+    private final ConcurrentHashMap<Integer, LongAdder> postLikes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, LongAdder> replyLikes = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ForumLike> pendingLikes = new ConcurrentLinkedQueue<>();
+
+    // userEmail -> ForumLike keys already liked, least recently used users dropped first
+    private final Map<String, Set<String>> likedByUser = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+            return size() > USER_CACHE_SIZE;
+        }
+    };
+
+    private final PostDao postDao;
+    private final ReplyDao replyDao;
+    private final ForumLikeDao forumLikeDao;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ForumLikeBuffer(PostDao postDao, ReplyDao replyDao, ForumLikeDao forumLikeDao,
+                           PlatformTransactionManager transactionManager) {
+        this.postDao = postDao;
+        this.replyDao = replyDao;
+        this.forumLikeDao = forumLikeDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // saveAll compares two reads of the batch's rows, which must share one snapshot
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * @return false if the user already liked this post
+     */
+    public boolean likePost(String userEmail, int postId) {
+        return like(userEmail, ForumLike.TYPE_POST, postId, postLikes);
+    }
+
+    /**
+     * @return false if the user already liked this reply
+     */
+    public boolean likeReply(String userEmail, int replyId) {
+        return like(userEmail, ForumLike.TYPE_REPLY, replyId, replyLikes);
+    }
+
+    // Likes accepted but not yet written, so views can show them straight away
+    public int getPendingPostLikes(int postId) {
+        return pending(postLikes, postId);
+    }
+
+    public int getPendingReplyLikes(int replyId) {
+        return pending(replyLikes, replyId);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.likes.flushMillis:1000}")
+    public synchronized void flush() {
+        Map<Integer, Long> postDeltas = drain(postLikes);
+        Map<Integer, Long> replyDeltas = drain(replyLikes);
+        List<ForumLike> likes = new ArrayList<>();
+        for (ForumLike like = pendingLikes.poll(); like != null; like = pendingLikes.poll()) {
+            likes.add(like);
+        }
+
+        if (likes.isEmpty() && postDeltas.isEmpty() && replyDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Likes that were already stored are skipped and not counted again
+                List<ForumLike> inserted = forumLikeDao.saveAll(likes);
+                postDao.addLikes(countByTarget(inserted, ForumLike.TYPE_POST));
+                replyDao.addLikes(countByTarget(inserted, ForumLike.TYPE_REPLY));
+            });
+        } catch (RuntimeException e) {
+            // Put everything back so the next flush retries it
+            restore(postLikes, postDeltas);
+            restore(replyLikes, replyDeltas);
+            pendingLikes.addAll(likes);
+            System.err.println("❌ ERROR flushing forum likes: " + e.getMessage());
+        }
+    }
+
+    // Write whatever is still buffered before the context closes
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private boolean like(String userEmail, String targetType, int targetId,
+                         ConcurrentHashMap<Integer, LongAdder> counters) {
+        if (!likedKeys(userEmail).add(ForumLike.key(targetType, targetId))) {
+            return false;
+        }
+        pendingLikes.add(new ForumLike(userEmail, targetType, targetId));
+        // Incremented inside compute so drain cannot drop the entry in between
+        counters.compute(targetId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.increment();
+            return counter;
+        });
+        return true;
+    }
+
+    private Set<String> likedKeys(String userEmail) {
+        Set<String> keys;
+        synchronized (likedByUser) {
+            keys = likedByUser.get(userEmail);
+        }
+        if (keys != null) {
+            return keys;
+        }
+
+        // Load outside the lock; includes likes still queued for this user
+        Set<String> loaded = ConcurrentHashMap.newKeySet();
+        loaded.addAll(forumLikeDao.findKeysByUser(userEmail));
+        for (ForumLike like : pendingLikes) {
+            if (like.getUserEmail().equals(userEmail)) {
+                loaded.add(ForumLike.key(like.getTargetType(), like.getTargetId()));
+            }
+        }
+
+        synchronized (likedByUser) {
+            keys = likedByUser.putIfAbsent(userEmail, loaded);
+        }
+        return keys != null ? keys : loaded;
+    }
+
+    private static int pending(Map<Integer, LongAdder> counters, int id) {
+        LongAdder adder = counters.get(id);
+        return adder == null ? 0 : adder.intValue();
+    }
+
+    private static Map<Integer, Long> drain(ConcurrentHashMap<Integer, LongAdder> counters) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        counters.forEach((id, adder) -> {
+            long count = adder.sumThenReset();
+            if (count != 0) {
+                deltas.put(id, count);
+            }
+            // Drop the entry unless a like arrived since the reset
+            counters.computeIfPresent(id, (key, current) -> current.sum() == 0 ? null : current);
+        });
+        return deltas;
+    }
+
+    private static Map<Integer, Long> countByTarget(List<ForumLike> likes, String targetType) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (ForumLike like : likes) {
+            if (targetType.equals(like.getTargetType())) {
+                counts.merge(like.getTargetId(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static void restore(ConcurrentHashMap<Integer, LongAdder> counters, Map<Integer, Long> deltas) {
+        deltas.forEach((id, count) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(count));
+    }
+}
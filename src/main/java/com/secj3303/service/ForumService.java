@@ -1,18 +1,25 @@
 package com.secj3303.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.secj3303.dao.CategoryDao;
+import com.secj3303.dao.ForumLikeDao;
 import com.secj3303.dao.PostDao;
 import com.secj3303.dao.ReplyDao;
 import com.secj3303.dao.ReportDao;
 import com.secj3303.model.Category;
+import com.secj3303.model.ForumLike;
+import com.secj3303.model.KeysetPage;
 import com.secj3303.model.Post;
 import com.secj3303.model.Reply;
 import com.secj3303.model.Report;
@@ -33,15 +40,43 @@ public class ForumService {
     @Autowired
     private CategoryDao categoryDao;
 
-    public List<Post> getAllPosts() {
-        return postDao.findAllOrderByLikesDesc();
+    @Autowired
+    private ForumLikeDao forumLikeDao;
+
+    @Autowired
+    private ForumLikeBuffer likeBuffer;
+
+    @Value("${forum.feed.pageSize:10}")
+    private int feedPageSize;
+
+    public long countPosts() {
+        return postDao.countAll();
     }
     
-    public List<Post> getPostsByCategory(String category) {
-        if ("all".equals(category)) {
-            return postDao.findAllOrderByLikesDesc();
+    /**
+     * One page of the forum feed. The "all" feed is ordered by likes and
+     * continues after (beforeLikes, beforeId); a category feed is ordered
+     * by id and continues after beforeId. Replies are not loaded.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Post> getFeedPage(String category, Integer beforeLikes, Integer beforeId) {
+        List<Post> rows = "all".equals(category)
+                ? postDao.findFeedPage(beforeLikes, beforeId, feedPageSize + 1)
+                : postDao.findCategoryPage(category, beforeId, feedPageSize + 1);
+        KeysetPage<Post> page = KeysetPage.of(rows, feedPageSize);
+        for (Post post : page.getItems()) {
+            post.setPendingLikes(likeBuffer.getPendingPostLikes(post.getId()));
         }
-        return postDao.findByCategory(category);
+        return page;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Reply> getReplies(int postId) {
+        List<Reply> replies = replyDao.findByPostId(postId);
+        for (Reply reply : replies) {
+            reply.setPendingLikes(likeBuffer.getPendingReplyLikes(reply.getId()));
+        }
+        return replies;
     }
     
     public Post getPostById(int id) {
@@ -49,74 +84,96 @@ public class ForumService {
     }
     
     public int createPost(Post post) {
-        // Calculate total posts for "all" category
-        updateAllCategoryCount();
-        return postDao.save(post);
+        int id = postDao.save(post);
+        categoryDao.incrementCount(post.getCategory(), 1);
+        return id;
+    }
+    
+    /**
+     * Deletes a post with its replies and reports, and takes it
+     * off the category counts in the same transaction. The post row is
+     * locked first, so a second delete of the same post waits and then
+     * finds nothing.
+     * @return false if the post does not exist (already deleted)
+     */
+    public boolean deletePost(int postId) {
+        Post post = postDao.lockById(postId);
+        if (post == null) {
+            return false;
+        }
+        reportDao.deleteByPostId(postId);
+        forumLikeDao.deleteByTarget(ForumLike.TYPE_POST, postId);
+        forumLikeDao.deleteByRepliesOfPost(postId);
+        postDao.delete(postId);
+        categoryDao.incrementCount(post.getCategory(), -1);
+        return true;
     }
     
     public void updatePost(Post post) {
         postDao.update(post);
     }
     
-    public void likePost(int postId) {
-        Post post = postDao.findById(postId);
-        if (post != null) {
-            post.setLikes(post.getLikes() + 1);
-            postDao.update(post);
-        }
+    /**
+     * Buffered; the count reaches forum_posts on the next like flush.
+     * @return false if the user already liked this post
+     */
+    public boolean likePost(int postId, String userEmail) {
+        return likeBuffer.likePost(userEmail, postId);
     }
     
     public int createReply(Reply reply) {
-        return replyDao.save(reply);
+        int id = replyDao.save(reply);
+        postDao.incrementReplyCount(reply.getPost().getId(), 1);
+        return id;
     }
     
-    public void likeReply(int replyId) {
-        Reply reply = replyDao.findById(replyId);
-        if (reply != null) {
-            reply.setLikes(reply.getLikes() + 1);
-            replyDao.update(reply);
-        }
+    /**
+     * Brings every post's reply_count back in line with forum_replies.
+     */
+    public int reconcileReplyCounts() {
+        return postDao.recountReplies();
+    }
+    
+    public boolean likeReply(int replyId, String userEmail) {
+        return likeBuffer.likeReply(userEmail, replyId);
     }
     
     public int createReport(Report report) {
         return reportDao.save(report);
     }
     
+    /**
+     * Removes reports left behind by posts deleted outside deletePost.
+     */
+    public int deleteOrphanReports() {
+        return reportDao.deleteOrphans();
+    }
+    
     public List<Category> getAllCategories() {
         return categoryDao.findAll();
     }
     
+    /**
+     * Sidebar categories with their maintained post counts; no posts are read.
+     */
+    @Transactional(readOnly = true)
     public List<Map<String, String>> getCategoriesWithCounts() {
-        List<Category> categories = categoryDao.findAll();
-        
-        // Update all category count with total posts
-        updateAllCategoryCount();
-        
-        return categories.stream()
-                .map(cat -> {
-                    int count;
-                    if ("all".equals(cat.getId())) {
-                        // Get total post count for "all" category
-                        count = (int) postDao.findAll().stream().count();
-                    } else {
-                        count = postDao.countByCategory(cat.getId());
-                    }
-                    return Map.of(
-                        "id", cat.getId(),
-                        "label", cat.getLabel(),
-                        "count", String.valueOf(count)
-                    );
-                })
+        return categoryDao.findAll().stream()
+                .map(cat -> Map.of(
+                    "id", cat.getId(),
+                    "label", cat.getLabel(),
+                    "count", String.valueOf(cat.getCount())
+                ))
                 .collect(Collectors.toList());
     }
     
-    private void updateAllCategoryCount() {
-        Category allCategory = categoryDao.findById("all");
-        if (allCategory != null) {
-            int totalPosts = (int) postDao.findAll().stream().count();
-            allCategory.setCount(totalPosts);
-            categoryDao.update(allCategory);
-        }
+    /**
+     * Periodic safety net for the counters kept by createPost/deletePost.
+     */
+    @Scheduled(initialDelayString = "${forum.categoryCounts.reconcileMillis:3600000}",
+               fixedDelayString = "${forum.categoryCounts.reconcileMillis:3600000}")
+    public void reconcileCategoryCounts() {
+        categoryDao.reconcileCounts();
     }
     
     public void initializeDummyData() {
@@ -127,23 +184,49 @@ public class ForumService {
         }
         
         // Insert initial categories if not exists
-        if (categoryDao.findById("all") == null) {
-            categoryDao.save(new Category("all", "All Posts", 5));
-        }
-        if (categoryDao.findById("anxiety") == null) {
-            categoryDao.save(new Category("anxiety", "Anxiety", 1));
-        }
-        if (categoryDao.findById("stress") == null) {
-            categoryDao.save(new Category("stress", "Stress", 2));
+        for (Category category : demoCategories()) {
+            if (categoryDao.findById(category.getId()) == null) {
+                categoryDao.save(category);
+            }
         }
-        if (categoryDao.findById("depression") == null) {
-            categoryDao.save(new Category("depression", "Depression", 1));
-        }
-        if (categoryDao.findById("motivation") == null) {
-            categoryDao.save(new Category("motivation", "Motivation", 1));
+        
+        // Save posts; replies are saved afterwards so reply_count is kept in step
+        Map<Integer, List<Reply>> repliesByPost = new LinkedHashMap<>();
+        for (Post post : demoPosts()) {
+            List<Reply> replies = post.getReplies();
+            post.setReplies(new ArrayList<>());
+            repliesByPost.put(postDao.save(post), replies);
         }
         
-        // Create initial posts
+        // Seeded counts above are placeholders; recompute from the posts just saved
+        reconcileCategoryCounts();
+
+        for (Map.Entry<Integer, List<Reply>> post : repliesByPost.entrySet()) {
+            Post savedPost = postDao.findById(post.getKey());
+            for (Reply reply : post.getValue()) {
+                reply.setPost(savedPost);
+                createReply(reply);
+            }
+        }
+    }
+
+    /**
+     * Categories of the demo forum. Counts are placeholders until reconciled.
+     */
+    public static List<Category> demoCategories() {
+        return List.of(
+            new Category("all", "All Posts", 5),
+            new Category("anxiety", "Anxiety", 1),
+            new Category("stress", "Stress", 2),
+            new Category("depression", "Depression", 1),
+            new Category("motivation", "Motivation", 1));
+    }
+
+    /**
+     * Demo posts with their replies attached (not yet linked back to the post).
+     * Titles are unique, so the startup seed can find each post by title.
+     */
+    public static List<Post> demoPosts() {
         Post post1 = new Post(0, "Anonymous Student", "AS", "2 hours ago", "anxiety", 
             "Struggling with exam anxiety", 
             "Finals are coming up and I'm feeling overwhelmed. Has anyone found helpful strategies for managing exam stress?", 
@@ -169,35 +252,16 @@ public class ForumService {
             "Been feeling disconnected from friends and struggling to reach out. Anyone else experienced this?", 
             31, false, true);
 
-        // Save posts
-        int post1Id = postDao.save(post1);
-        postDao.save(post2);
-        postDao.save(post3);
-        postDao.save(post4);
-        postDao.save(post5);
-        
-        // Update category counts
-        updateAllCategoryCount();
-
-        // Create replies for post1
-        Post savedPost1 = postDao.findById(post1Id);
-        
-        Reply reply1 = new Reply(0, "Anonymous Faculty", "AF", "1 hour ago", 
-            "I've found that creating a study schedule helps reduce anxiety. Break your studying into manageable chunks!", 8);
-        reply1.setPost(savedPost1);
-        
-        Reply reply2 = new Reply(0, "Anonymous Student", "AS", "30 minutes ago", 
-            "Meditation and deep breathing exercises have really helped me. There are some great apps for this!", 5);
-        reply2.setPost(savedPost1);
+        // Replies for post1
+        post1.getReplies().add(new Reply(0, "Anonymous Faculty", "AF", "1 hour ago", 
+            "I've found that creating a study schedule helps reduce anxiety. Break your studying into manageable chunks!", 8));
+        post1.getReplies().add(new Reply(0, "Anonymous Student", "AS", "30 minutes ago", 
+            "Meditation and deep breathing exercises have really helped me. There are some great apps for this!", 5));
         
-        // Create reply for post3
-        Reply reply3 = new Reply(0, "Anonymous Student", "AS", "4 hours ago", 
-            "This is inspiring! How do you stay consistent with it?", 3);
-        reply3.setPost(post3);
+        // Reply for post3
+        post3.getReplies().add(new Reply(0, "Anonymous Student", "AS", "4 hours ago", 
+            "This is inspiring! How do you stay consistent with it?", 3));
 
-        // Save replies
-        replyDao.save(reply1);
-        replyDao.save(reply2);
-        replyDao.save(reply3);
+        return List.of(post1, post2, post3, post4, post5);
     }
 }
\ No newline at end of file
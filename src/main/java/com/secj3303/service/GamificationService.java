@@ -1,11 +1,17 @@
 package com.secj3303.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.secj3303.dao.GamificationDao;
 import com.secj3303.model.Gamification;
@@ -16,22 +22,61 @@ import com.secj3303.model.Gamification.LeaderboardEntry;
 @Transactional
 public class GamificationService {
 
+    private static final int LEADERBOARD_SIZE = 10;
+
     private final GamificationDao gamificationDao;
+    private final XpLeaderboard xpLeaderboard;
 
-    public GamificationService(GamificationDao gamificationDao) {
+    public GamificationService(GamificationDao gamificationDao, XpLeaderboard xpLeaderboard) {
         this.gamificationDao = gamificationDao;
+        this.xpLeaderboard = xpLeaderboard;
     }
 
+    /**
+     * Pure read: XP, level and streak are kept current by recordLearningProgress.
+     */
+    @Transactional(readOnly = true)
     public Gamification getUserGamificationProfile(String userEmail) {
-        // Sync first to ensure data is fresh
-        gamificationDao.syncUserProgress(userEmail); 
         return gamificationDao.findByUserEmail(userEmail)
                 .orElse(new Gamification(userEmail));
     }
 
+    /**
+     * Applies the XP earned (or lost) by one learning event and counts
+     * today towards the user's streak. Runs in the caller's transaction.
+     */
+    public void recordLearningProgress(String userEmail, int xpDelta) {
+        Gamification profile = gamificationDao.lockOrCreate(userEmail);
+        profile.addXp(xpDelta);
+        profile.recordActivity(LocalDateTime.now());
+
+        // The leaderboard only sees XP that was actually committed; the version
+        // is taken under the row lock so out-of-order callbacks cannot regress it
+        int newXp = profile.getXpPoints();
+        long version = xpLeaderboard.nextVersion();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                xpLeaderboard.update(userEmail, newXp, version);
+            }
+        });
+    }
+
+    /**
+     * Periodic safety net for the XP kept by recordLearningProgress.
+     */
+    @Scheduled(initialDelayString = "${gamification.xp.reconcileMillis:3600000}",
+               fixedDelayString = "${gamification.xp.reconcileMillis:3600000}")
+    public void reconcileXp() {
+        int fixed = gamificationDao.reconcileXp();
+        if (fixed > 0) {
+            System.out.println("✅ Reconciled XP for " + fixed + " users");
+            xpLeaderboard.reload();
+        }
+    }
+
     public int getPointsToNextLevel(int currentXp) {
-        int level = (currentXp / 200) + 1;
-        int nextLevelXp = level * 200;
+        int nextLevelXp = Gamification.levelForXp(currentXp) * Gamification.XP_PER_LEVEL;
         return nextLevelXp - currentXp;
     }
 
@@ -39,32 +84,31 @@ public class GamificationService {
         List<Badge> badges = Gamification.getBadges(); 
         
         if (profile.getXpPoints() >= 100) badges.get(0).earned = true; 
-        if (profile.getDailyStreak() >= 7) badges.get(1).earned = true;
+        if (profile.getCurrentStreak(LocalDate.now()) >= 7) badges.get(1).earned = true;
         if (profile.getXpPoints() >= 500) badges.get(4).earned = true;
         
         return badges;
     }
 
+    /**
+     * Top 10 of real users (from the in-memory XP ranking) and the static
+     * demo entries. If the current user is ranked below the top 10 they
+     * are appended with their exact rank. Equal points share a rank.
+     */
+    @Transactional(readOnly = true)
     public List<LeaderboardEntry> getFunctionalLeaderboard(String currentUserEmail) {
         List<LeaderboardEntry> allEntries = new ArrayList<>();
 
-        // 1. Convert Real Users to Entries
-        List<Gamification> realUsers = gamificationDao.getLeaderboard(20); // Get more to sort correctly
-        for (Gamification g : realUsers) {
-            String displayName = g.getUserEmail().split("@")[0];
-            boolean isMe = g.getUserEmail().equals(currentUserEmail);
-            
-            // We temporarily set rank to 0, we will fix it after sorting
-            allEntries.add(new LeaderboardEntry(
-                0, displayName, g.getXpPoints(), 
-                g.getCurrentLevel(), "", isMe
-            ));
+        // 1. Real users, only as many as can reach the top 10
+        for (Map.Entry<String, Integer> user : xpLeaderboard.top(LEADERBOARD_SIZE)) {
+            allEntries.add(toEntry(user.getKey(), user.getValue(), currentUserEmail));
         }
 
         // 2. Add Dummy Users
-        List<LeaderboardEntry> staticEntries = Gamification.getStaticLeaderboard();
-        for (LeaderboardEntry dummy : staticEntries) {
+        List<LeaderboardEntry> staticEntries = new ArrayList<>();
+        for (LeaderboardEntry dummy : Gamification.getStaticLeaderboard()) {
             if (!dummy.name.equals("You")) {
+                staticEntries.add(dummy);
                 allEntries.add(dummy);
             }
         }
@@ -74,20 +118,43 @@ public class GamificationService {
 
         // 4. Assign Ranks & Limit to Top 10
         List<LeaderboardEntry> finalLeaderboard = new ArrayList<>();
-        int rank = 1;
-        
-        for (LeaderboardEntry entry : allEntries) {
-            if (rank > 10) break; // Only show top 10
-            
-            entry.rank = rank; // Assign correct rank based on points
-            entry.badge = getBadgeForRank(rank); // Assign crown/medal
+        boolean currentUserShown = false;
+
+        for (int i = 0; i < allEntries.size() && i < LEADERBOARD_SIZE; i++) {
+            LeaderboardEntry entry = allEntries.get(i);
+            boolean tied = i > 0 && entry.points == allEntries.get(i - 1).points;
+            entry.rank = tied ? finalLeaderboard.get(i - 1).rank : i + 1;
+            entry.badge = getBadgeForRank(entry.rank); // Assign crown/medal
             finalLeaderboard.add(entry);
-            rank++;
+            currentUserShown |= entry.isCurrentUser;
+        }
+
+        // 5. "Your rank" for users outside the top 10
+        int userRank = xpLeaderboard.rankOf(currentUserEmail);
+        if (!currentUserShown && userRank > 0) {
+            Gamification profile = getUserGamificationProfile(currentUserEmail);
+            LeaderboardEntry me = toEntry(currentUserEmail, profile.getXpPoints(), currentUserEmail);
+            me.rank = userRank + countStaticAbove(staticEntries, me.points);
+            finalLeaderboard.add(me);
         }
 
         return finalLeaderboard;
     }
-    
+
+    private LeaderboardEntry toEntry(String userEmail, int xp, String currentUserEmail) {
+        String displayName = userEmail.split("@")[0];
+        boolean isMe = userEmail.equals(currentUserEmail);
+        return new LeaderboardEntry(0, displayName, xp, Gamification.levelForXp(xp), "", isMe);
+    }
+
+    private int countStaticAbove(List<LeaderboardEntry> staticEntries, int points) {
+        int count = 0;
+        for (LeaderboardEntry entry : staticEntries) {
+            if (entry.points > points) count++;
+        }
+        return count;
+    }
+
     private String getBadgeForRank(int rank) {
         if (rank == 1) return "👑";
         if (rank == 2) return "🥈";
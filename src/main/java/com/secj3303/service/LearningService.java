@@ -3,9 +3,9 @@ package com.secj3303.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.secj3303.dao.GamificationDao;
 import com.secj3303.dao.LearningModuleDao;
 import com.secj3303.dao.ModuleProgressDao;
+import com.secj3303.model.Gamification;
 import com.secj3303.model.LearningModule;
 import com.secj3303.model.ModuleProgress;
 
@@ -15,14 +15,14 @@ public class LearningService {
 
     private final ModuleProgressDao progressDao;
     private final LearningModuleDao moduleDao;
-    private final GamificationDao gamificationDao;
+    private final GamificationService gamificationService;
 
     public LearningService(ModuleProgressDao progressDao,
                            LearningModuleDao moduleDao,
-                           GamificationDao gamificationDao) {
+                           GamificationService gamificationService) {
         this.progressDao = progressDao;
         this.moduleDao = moduleDao;
-        this.gamificationDao = gamificationDao;
+        this.gamificationService = gamificationService;
     }
 
     // ======================================================
@@ -50,12 +50,13 @@ public class LearningService {
         // Prevent exceeding 100%
         if (progress.getProgress() >= 100) return;
 
+        int xpBefore = xpFor(progress);
         int increment = (int) Math.ceil(100.0 / totalLessons);
         int newProgress = Math.min(progress.getProgress() + increment, 100);
 
         progress.setProgress(newProgress);
         progressDao.save(progress);
-        gamificationDao.syncUserProgress(userEmail);
+        gamificationService.recordLearningProgress(userEmail, xpFor(progress) - xpBefore);
     }
 
     // ======================================================
@@ -75,9 +76,18 @@ public class LearningService {
                     return p;
                 });
 
+        int xpBefore = xpFor(progress);
         progress.setProgress(100);
         progress.setQuizPassed(true);
         progressDao.save(progress);
-        gamificationDao.syncUserProgress(userEmail);
+        gamificationService.recordLearningProgress(userEmail, xpFor(progress) - xpBefore);
+    }
+
+    // XP one progress row is worth, same rule as GamificationDao.reconcileXp
+    private int xpFor(ModuleProgress progress) {
+        int xp = 0;
+        if (progress.getProgress() == 100) xp += Gamification.POINTS_PER_MODULE;
+        if (progress.isQuizPassed()) xp += Gamification.POINTS_PER_QUIZ;
+        return xp;
     }
 }
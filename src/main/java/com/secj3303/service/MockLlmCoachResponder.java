@@ -0,0 +1,45 @@
+package com.secj3303.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Local stand-in for a language model, for trying the streaming path
+ * without an external service. Replies are long, deterministic and
+ * streamed in short sub-word pieces like model tokens.
+ * Enable with coach.responder=mockLlm.
+ */
+@Component("mockLlm")
+public class MockLlmCoachResponder implements CoachResponder {
+
+    private static final int TOKEN_LENGTH = 4;
+
+    private final RuleBasedCoachResponder rules = new RuleBasedCoachResponder();
+
+    @Override
+    public String respond(String userInput) {
+        // Safety replies always come from the rules, never from the model
+        String ruleReply = rules.respond(userInput);
+        return ruleReply + "\n\n(mock model) You wrote " + userInput.trim().length()
+                + " characters. In a real deployment this part would be generated by a language model, "
+                + "streamed to you token by token as it is produced.";
+    }
+
+    @Override
+    public List<String> toChunks(String reply) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        while (start < reply.length()) {
+            // Count code points, not chars, so emoji are never split in half
+            int end = start;
+            for (int n = 0; n < TOKEN_LENGTH && end < reply.length(); n++) {
+                end = reply.offsetByCodePoints(end, 1);
+            }
+            tokens.add(reply.substring(start, end));
+            start = end;
+        }
+        return tokens;
+    }
+}
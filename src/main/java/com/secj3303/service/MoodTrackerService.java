@@ -0,0 +1,202 @@
+package com.secj3303.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.secj3303.dao.MoodEntryDao;
+import com.secj3303.dao.MoodSummaryDao;
+import com.secj3303.model.KeysetPage;
+import com.secj3303.model.MoodEntry;
+import com.secj3303.model.MoodSummary;
+import com.secj3303.model.MoodWeeklyRollup;
+
+/**
+ * Writes mood entries together with the user's MoodSummary and weekly
+ * rollup rows, in the same transaction, so dashboard figures are read
+ * from a handful of rows instead of being recomputed from the history.
+ */
+@Service
+@Transactional
+public class MoodTrackerService {
+
+    // Dates fetched per query when a streak has to be walked again
+    private static final int STREAK_PAGE_SIZE = 64;
+
+    @Autowired
+    private MoodEntryDao moodEntryDao;
+
+    @Autowired
+    private MoodSummaryDao moodSummaryDao;
+
+    @Value("${mood.history.pageSize:20}")
+    private int historyPageSize;
+
+    // ===============================
+    // READS
+    // ===============================
+
+    @Transactional(readOnly = true)
+    public Optional<MoodSummary> getSummary(String username) {
+        return moodSummaryDao.findByUsername(username);
+    }
+
+    /**
+     * Mood counts and most frequent mood for the current week (Monday to today).
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getThisWeekStats(String username) {
+        LocalDate weekStart = MoodWeeklyRollup.weekStart(LocalDate.now());
+        return MoodEntry.getWeeklyStats(moodSummaryDao.findWeeklyCounts(username, weekStart));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MoodEntry> getLatestEntries(String username, int limit) {
+        return moodEntryDao.findLatestByUsername(username, limit);
+    }
+
+    /**
+     * One page of the history view, newest first, continuing after (beforeDate, beforeId).
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<MoodEntry> getHistoryPage(String username, LocalDate beforeDate, Integer beforeId) {
+        List<MoodEntry> rows = moodEntryDao.findHistoryPage(username, beforeDate, beforeId, historyPageSize + 1);
+        return KeysetPage.of(rows, historyPageSize);
+    }
+
+    // ===============================
+    // WRITES
+    // ===============================
+
+    public MoodEntry saveEntry(MoodEntry entry) {
+        moodEntryDao.save(entry);
+
+        MoodSummary summary = moodSummaryDao.lockOrCreate(entry.getUsername());
+        summary.setTotalEntries(summary.getTotalEntries() + 1);
+        entryAdded(summary, entry.getEntryDate());
+        moodSummaryDao.addWeeklyCount(entry.getUsername(), MoodWeeklyRollup.weekStart(entry.getEntryDate()), entry.getMood(), 1);
+
+        return entry;
+    }
+
+    /**
+     * Applies the edited fields to the stored entry. Returns empty if the
+     * entry no longer exists.
+     */
+    public Optional<MoodEntry> updateEntry(Integer id, String mood, String notes, LocalDate entryDate) {
+        Optional<MoodEntry> existingOpt = moodEntryDao.findById(id);
+        if (existingOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MoodEntry entry = existingOpt.get();
+        LocalDate oldDate = entry.getEntryDate();
+        String oldMood = entry.getMood();
+
+        entry.setMood(mood);
+        entry.setNotes(notes);
+        entry.setEntryDate(entryDate);
+        entry.setTimestamp(LocalDateTime.now());
+        moodEntryDao.update(entry);
+
+        // The summary row is always locked before any rollup row, like in saveEntry
+        MoodSummary summary = moodSummaryDao.lockOrCreate(entry.getUsername());
+
+        LocalDate oldWeek = MoodWeeklyRollup.weekStart(oldDate);
+        LocalDate newWeek = MoodWeeklyRollup.weekStart(entryDate);
+        if (!oldWeek.equals(newWeek) || !oldMood.equals(mood)) {
+            moodSummaryDao.addWeeklyCount(entry.getUsername(), oldWeek, oldMood, -1);
+            moodSummaryDao.addWeeklyCount(entry.getUsername(), newWeek, mood, 1);
+        }
+
+        if (!oldDate.equals(entryDate)) {
+            entryAdded(summary, entryDate);
+            entryRemoved(summary, oldDate);
+        }
+
+        return Optional.of(entry);
+    }
+
+    public boolean deleteEntry(Integer id) {
+        Optional<MoodEntry> entryOpt = moodEntryDao.findById(id);
+        if (entryOpt.isEmpty() || !moodEntryDao.delete(id)) {
+            return false;
+        }
+
+        MoodEntry entry = entryOpt.get();
+        MoodSummary summary = moodSummaryDao.lockOrCreate(entry.getUsername());
+        moodSummaryDao.addWeeklyCount(entry.getUsername(), MoodWeeklyRollup.weekStart(entry.getEntryDate()), entry.getMood(), -1);
+
+        summary.setTotalEntries(summary.getTotalEntries() - 1);
+        if (summary.getTotalEntries() <= 0) {
+            moodSummaryDao.delete(summary);
+        } else {
+            entryRemoved(summary, entry.getEntryDate());
+        }
+        return true;
+    }
+
+    // ===============================
+    // STREAK MAINTENANCE
+    // ===============================
+
+    // Entries for later days extend or restart the streak without a query
+    private void entryAdded(MoodSummary summary, LocalDate date) {
+        LocalDate last = summary.getLastEntryDate();
+
+        if (last == null || date.isAfter(last)) {
+            boolean nextDay = last != null && date.equals(last.plusDays(1));
+            summary.setStreakLength(nextDay ? summary.getStreakLength() + 1 : 1);
+            summary.setLastEntryDate(date);
+        } else if (date.equals(summary.getStreakStart().minusDays(1))) {
+            // Back-filled the day before the streak, which may join an older run
+            recalculateStreak(summary);
+        }
+    }
+
+    private void entryRemoved(MoodSummary summary, LocalDate date) {
+        LocalDate last = summary.getLastEntryDate();
+
+        if (last != null && !date.isAfter(last) && !date.isBefore(summary.getStreakStart())) {
+            recalculateStreak(summary);
+        }
+    }
+
+    /**
+     * Walks the user's entry dates from the newest one until the first gap.
+     * Only needed when an edit lands inside or next to the current run.
+     */
+    private void recalculateStreak(MoodSummary summary) {
+        LocalDate last = null;
+        int streak = 0;
+        int offset = 0;
+
+        while (true) {
+            List<LocalDate> dates = moodEntryDao.findEntryDates(summary.getUsername(), offset, STREAK_PAGE_SIZE);
+            for (LocalDate date : dates) {
+                if (last == null) {
+                    last = date;
+                } else if (!date.equals(last.minusDays(streak))) {
+                    summary.setLastEntryDate(last);
+                    summary.setStreakLength(streak);
+                    return;
+                }
+                streak++;
+            }
+            if (dates.size() < STREAK_PAGE_SIZE) {
+                break;
+            }
+            offset += STREAK_PAGE_SIZE;
+        }
+
+        summary.setLastEntryDate(last);
+        summary.setStreakLength(streak);
+    }
+}
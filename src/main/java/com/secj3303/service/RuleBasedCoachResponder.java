@@ -0,0 +1,37 @@
+package com.secj3303.service;
+
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Default coach: keyword rules with fixed replies, crisis check first.
+ */
+@Component("rules")
+public class RuleBasedCoachResponder implements CoachResponder {
+
+    private static final Pattern GREETING = Pattern.compile("^(hi|hello|hey|good morning)");
+
+    @Override
+    public String respond(String userInput) {
+        String input = userInput.toLowerCase().trim();
+
+        if (input.contains("suicid") || input.contains("harm myself") || input.contains("end it") || input.contains("kill myself")) {
+            return "I'm concerned about what you've shared. Please reach out to a counselor immediately or contact a crisis helpline:\n\n🆘 National Crisis Hotline: 988\n📞 Crisis Text Line: Text HOME to 741741\n\nYou don't have to face this alone.";
+        }
+        if (GREETING.matcher(input).find()) {
+            return "Hello! How can I support you today?";
+        }
+        if (input.contains("stress")) {
+            return "I understand you're feeling stressed. Have you tried deep breathing exercises? Inhale for 4 seconds, hold for 7, and exhale for 8.";
+        }
+        if (input.contains("anxious") || input.contains("anxiety")) {
+            return "Anxiety can be tough. Try the 5-4-3-2-1 grounding technique: Name 5 things you see, 4 you feel, 3 you hear, 2 you smell, and 1 you taste.";
+        }
+        if (input.contains("sleep") || input.contains("tired")) {
+            return "Sleep is vital. Try avoiding screens 30 minutes before bed and keeping your room cool and dark.";
+        }
+
+        return "Thank you for sharing. Could you tell me more about that? I'm here to listen.";
+    }
+}
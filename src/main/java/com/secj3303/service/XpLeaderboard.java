@@ -0,0 +1,246 @@
+package com.secj3303.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.secj3303.dao.GamificationDao;
+
+/**
+ * In-memory XP ranking of every user with a gamification row.
+ *
+ * A Fenwick tree indexed by XP counts users per XP value, so "how many
+ * users have more XP than x" (and therefore anyone's rank) is O(log maxXp).
+ * Users are also grouped in a TreeMap by XP, so the top K are read in
+ * O(K + log n). Built from the database on startup and kept current by
+ * GamificationService after each XP change commits.
+ *
+ * After-commit updates can arrive out of order, so each carries a version
+ * taken while the user's row was locked; an update older than the one
+ * already applied is ignored.
+ */
+@Component
+public class XpLeaderboard {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean loaded = new AtomicBoolean(false);
+    private final AtomicLong versions = new AtomicLong();
+
+    private final Map<String, Integer> xpByUser = new HashMap<>();
+    private final Map<String, Long> versionByUser = new HashMap<>();
+    private final NavigableMap<Integer, TreeSet<String>> usersByXp = new TreeMap<>(Collections.reverseOrder());
+    private FenwickTree counts = new FenwickTree(INITIAL_CAPACITY);
+
+    @Autowired
+    private GamificationDao gamificationDao;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void loadOnStartup() {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            System.err.println("❌ ERROR loading leaderboard: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the whole ranking with the XP currently stored in the database.
+     * The read happens under the write lock, so no update applied before it
+     * can be overwritten by an older snapshot. Versions are kept, so updates
+     * still on their way are applied or ignored as before.
+     */
+    public void reload() {
+        int loadedUsers;
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> stored = gamificationDao.findAllXp();
+            xpByUser.clear();
+            usersByXp.clear();
+            versionByUser.keySet().retainAll(stored.keySet());
+            counts = new FenwickTree(INITIAL_CAPACITY);
+            for (Map.Entry<String, Integer> user : stored.entrySet()) {
+                insert(user.getKey(), user.getValue());
+            }
+            loadedUsers = stored.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("✅ Leaderboard loaded with " + loadedUsers + " users");
+    }
+
+    /**
+     * Version for an XP change. Take it while the user's gamification row is
+     * locked, so versions for one user follow the order the changes commit in.
+     */
+    public long nextVersion() {
+        return versions.incrementAndGet();
+    }
+
+    /**
+     * Sets the user's XP unless a change with a later version was already applied.
+     */
+    public void update(String userEmail, int xp, long version) {
+        lock.writeLock().lock();
+        try {
+            Long applied = versionByUser.get(userEmail);
+            if (applied != null && applied >= version) {
+                return;
+            }
+            versionByUser.put(userEmail, version);
+
+            Integer previous = xpByUser.remove(userEmail);
+            if (previous != null) {
+                TreeSet<String> users = usersByXp.get(previous);
+                users.remove(userEmail);
+                if (users.isEmpty()) {
+                    usersByXp.remove(previous);
+                }
+                counts.add(previous, -1);
+            }
+            insert(userEmail, xp);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Highest XP first; users with equal XP are ordered by email.
+     */
+    public List<Map.Entry<String, Integer>> top(int limit) {
+        List<Map.Entry<String, Integer>> top = new ArrayList<>(limit);
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Integer, TreeSet<String>> group : usersByXp.entrySet()) {
+                for (String userEmail : group.getValue()) {
+                    if (top.size() == limit) {
+                        return top;
+                    }
+                    top.add(Map.entry(userEmail, group.getKey()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top;
+    }
+
+    /**
+     * 1 + the number of users with strictly more XP, or 0 if the user is not ranked.
+     */
+    public int rankOf(String userEmail) {
+        lock.readLock().lock();
+        try {
+            Integer xp = xpByUser.get(userEmail);
+            return xp == null ? 0 : counts.countAbove(xp) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of ranked users with strictly more than the given XP.
+     */
+    public int countAbove(int xp) {
+        lock.readLock().lock();
+        try {
+            return counts.countAbove(xp);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return xpByUser.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void insert(String userEmail, int storedXp) {
+        int xp = Math.max(0, storedXp);
+        xpByUser.put(userEmail, xp);
+        usersByXp.computeIfAbsent(xp, k -> new TreeSet<>()).add(userEmail);
+        if (xp >= counts.capacity()) {
+            counts = counts.grow(xp, usersByXp);
+        }
+        counts.add(xp, 1);
+    }
+
+    /**
+     * Binary indexed tree of user counts per XP value (0..capacity-1).
+     */
+    private static class FenwickTree {
+
+        private final int[] tree;
+        private int total;
+
+        FenwickTree(int capacity) {
+            this.tree = new int[capacity + 1];
+        }
+
+        int capacity() {
+            return tree.length - 1;
+        }
+
+        void add(int xp, int delta) {
+            total += delta;
+            for (int i = xp + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        int countAtMost(int xp) {
+            int sum = 0;
+            for (int i = Math.min(xp + 1, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        int countAbove(int xp) {
+            return xp < 0 ? total : total - countAtMost(xp);
+        }
+
+        /**
+         * A tree large enough for maxXp, refilled from the grouped users.
+         * Doubling keeps the rebuild cost amortised.
+         */
+        FenwickTree grow(int maxXp, Map<Integer, TreeSet<String>> usersByXp) {
+            FenwickTree bigger = new FenwickTree(Math.max(capacity() * 2, maxXp + 1));
+            for (Map.Entry<Integer, TreeSet<String>> group : usersByXp.entrySet()) {
+                int users = group.getValue().size();
+                // The user being inserted is already grouped but not yet counted
+                if (group.getKey() == maxXp) {
+                    users--;
+                }
+                if (users > 0) {
+                    bigger.add(group.getKey(), users);
+                }
+            }
+            return bigger;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.secj3303.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig(locations = "classpath:test-coach-context.xml")
+@TestPropertySource(properties = {
+    "coach.responder=recording",
+    "coach.reply.minDelayMillis=" + CoachReplyServiceLoadTest.DELAY_MILLIS,
+    "coach.reply.maxDelayMillis=" + CoachReplyServiceLoadTest.DELAY_MILLIS
+})
+class CoachReplyServiceLoadTest {
+
+    static final long DELAY_MILLIS = 500;
+    private static final int REQUESTS = 150;
+
+    @Autowired
+    private CoachReplyService coachReplyService;
+
+    @Autowired
+    @Qualifier("coachExecutor")
+    private ThreadPoolTaskExecutor coachExecutor;
+
+    @Autowired
+    private RecordingResponder recording;
+
+    @Test
+    void concurrentRepliesAllCompleteAfterAboutOneDelayOnTheBoundedPool() throws Exception {
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<String>> replies = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            replies.add(coachReplyService.reply("I feel stressed about exams " + i));
+        }
+        CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        for (CompletableFuture<String> reply : replies) {
+            assertFalse(reply.join().isEmpty());
+        }
+        // Waiting costs no thread, so the delays overlap instead of adding up
+        assertTrue(elapsedMillis >= DELAY_MILLIS, "finished before the thinking delay: " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 2 * DELAY_MILLIS, "took more than one delay period: " + elapsedMillis + "ms");
+
+        assertEquals(REQUESTS, recording.calls.size());
+        Set<String> threads = new HashSet<>(recording.calls);
+        assertTrue(threads.size() <= coachExecutor.getMaxPoolSize(),
+                   "replies ran on " + threads.size() + " threads: " + threads);
+        assertTrue(coachExecutor.getThreadPoolExecutor().getLargestPoolSize() <= coachExecutor.getMaxPoolSize());
+    }
+
+    /** Delegates to the rule-based responder and records the thread of every call. */
+    static class RecordingResponder implements CoachResponder {
+
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        private final CoachResponder delegate;
+
+        RecordingResponder(CoachResponder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String respond(String userInput) {
+            calls.add(Thread.currentThread().getName());
+            return delegate.respond(userInput);
+        }
+    }
+}
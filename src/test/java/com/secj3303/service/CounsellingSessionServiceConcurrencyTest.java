@@ -0,0 +1,113 @@
+package com.secj3303.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.secj3303.dao.CounsellorDao;
+import com.secj3303.model.Counsellor;
+
+@SpringJUnitConfig(locations = "classpath:test-persistence-context.xml")
+class CounsellingSessionServiceConcurrencyTest {
+
+    private static final String SLOT_TAKEN = "Selected time slot is not available";
+    private static final int THREADS = 16;
+
+    @Autowired
+    @Qualifier("counsellingSessionService")
+    private CounsellingSessionService sessionService;
+
+    @Autowired
+    @Qualifier("otherInstanceSessionService")
+    private CounsellingSessionService otherInstance;
+
+    @Autowired
+    private CounsellorDao counsellorDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String counsellorId;
+
+    @BeforeEach
+    void createCounsellor() {
+        Counsellor counsellor = new Counsellor("Dr. Emily Chen", "counsellor1@demo.com", "Academic Counseling", "CSLR001");
+        counsellorId = counsellor.getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (counsellorDao.findById(counsellorId) == null) {
+                counsellorDao.save(counsellor);
+            }
+        });
+    }
+
+    @Test
+    void onlyOneOfManyConcurrentBookingsForASlotSucceeds() throws Exception {
+        assertOneBookingWins(sessionService, sessionService, LocalDate.now().plusDays(7));
+    }
+
+    @Test
+    void uniqueKeyRejectsTheLoserWhenBookingsComeThroughDifferentInstances() throws Exception {
+        // Each instance has its own locks, so only uk_session_active_slot keeps them apart
+        assertOneBookingWins(sessionService, otherInstance, LocalDate.now().plusDays(8));
+    }
+
+    // Every thread asks for the same slot; each test uses its own day
+    private void assertOneBookingWins(CounsellingSessionService even, CounsellingSessionService odd,
+                                      LocalDate date) throws Exception {
+        LocalTime start = LocalTime.of(10, 0);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> outcomes = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                CounsellingSessionService service = i % 2 == 0 ? even : odd;
+                String studentId = "STU2" + String.format("%04d", i);
+                outcomes.add(pool.submit(() -> {
+                    startGate.await();
+                    try {
+                        service.bookSession(counsellorId, studentId, date, start, "In-person", "Room 1", null);
+                        return "booked";
+                    } catch (IllegalArgumentException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+            startGate.countDown();
+
+            int booked = 0;
+            int taken = 0;
+            for (Future<String> outcome : outcomes) {
+                String result = outcome.get(30, TimeUnit.SECONDS);
+                if ("booked".equals(result)) {
+                    booked++;
+                } else {
+                    assertEquals(SLOT_TAKEN, result);
+                    taken++;
+                }
+            }
+            assertEquals(1, booked);
+            assertEquals(THREADS - 1, taken);
+            assertEquals(1, sessionService.getSessionsByCounsellorId(counsellorId).stream()
+                    .filter(s -> date.equals(s.getDate()) && start.equals(s.getStartTime()))
+                    .count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}